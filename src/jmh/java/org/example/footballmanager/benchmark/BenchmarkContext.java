@@ -0,0 +1,78 @@
+package org.example.footballmanager.benchmark;
+
+import org.example.footballmanager.FootballManagerApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Boots the application against a private in-memory H2 database migrated by the regular
+ * Liquibase changelog, so benchmarks exercise the real repositories, mappers and services.
+ */
+public final class BenchmarkContext {
+    private BenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start(String... extraProperties) {
+        return new SpringApplicationBuilder(FootballManagerApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(arguments(extraProperties));
+    }
+
+    /**
+     * Like {@link #start} but also starts the embedded web server on a random port, available as
+     * {@code local.server.port}.
+     */
+    public static ConfigurableApplicationContext startServer(
+            ApplicationContextInitializer<ConfigurableApplicationContext> initializer, String... extraProperties) {
+        return new SpringApplicationBuilder(FootballManagerApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .initializers(initializer)
+                .run(arguments(extraProperties));
+    }
+
+    /**
+     * Command-line arguments for the benchmark database and quiet logging; {@code extraProperties}
+     * are {@code key=value} pairs that add to or replace the defaults.
+     */
+    public static String[] arguments(String... extraProperties) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url", "jdbc:h2:mem:bench-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("logging.level.root", "warn");
+        for (String property : extraProperties) {
+            int separator = property.indexOf('=');
+            properties.put(property.substring(0, separator), property.substring(separator + 1));
+        }
+        return properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Adds {@code count} players spread evenly over the seeded teams.
+     */
+    public static void seedPlayers(ConfigurableApplicationContext context, int count) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        List<Long> teamIds = jdbcTemplate.queryForList("SELECT id FROM team ORDER BY id", Long.class);
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{"Bench Player " + i, 18 + i % 20, i % 120, teamIds.get(i % teamIds.size())});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO player (name, age, experience_months, team_id) VALUES (?, ?, ?, ?)", rows);
+    }
+}
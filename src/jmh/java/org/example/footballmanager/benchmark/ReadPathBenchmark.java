@@ -0,0 +1,74 @@
+package org.example.footballmanager.benchmark;
+
+import org.example.footballmanager.dto.player.PlayerDto;
+import org.example.footballmanager.mapper.PlayerMapper;
+import org.example.footballmanager.repository.PlayerRepository;
+import org.example.footballmanager.service.PlayerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the player listing through managed entities plus MapStruct ({@code entity}, the
+ * previous read path) with the read-only projection query ({@code projection}). Run with
+ * {@code -Djmh.args="ReadPathBenchmark -prof gc"} to see allocation per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadPathBenchmark {
+    @Param({"10000"})
+    private int players;
+
+    @Param({"20", "200"})
+    private int size;
+
+    @Param({"entity", "projection"})
+    private String path;
+
+    private ConfigurableApplicationContext context;
+    private PlayerService playerService;
+    private PlayerRepository playerRepository;
+    private PlayerMapper playerMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        BenchmarkContext.seedPlayers(context, players);
+        playerService = context.getBean(PlayerService.class);
+        playerRepository = context.getBean(PlayerRepository.class);
+        playerMapper = context.getBean(PlayerMapper.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<PlayerDto> getAllPlayers() {
+        PageRequest pageable = PageRequest.of(1, size);
+        if ("entity".equals(path)) {
+            return playerRepository.findAll(pageable).map(playerMapper::toDto);
+        }
+        return playerService.getAllPlayers(pageable);
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.footballmanager.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP load against {@code GET /teams/{id}/players} from 400 concurrent clients, with request
+ * handling on Tomcat's platform-thread pool or on virtual threads (the {@code virtual-threads}
+ * profile, which also turns on the database permit limiter). An in-memory H2 answers in
+ * microseconds, so every prepared statement is delayed by {@code dbLatencyMillis} to stand in
+ * for the network round trip to MySQL. Sample-time mode reports throughput (sample count over
+ * the measurement time) together with p50/p90/p99/p99.9 latency. The permit limiter gets the
+ * same 30 s wait budget as Hikari's connection timeout, so neither mode sheds load first.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class RequestModeBenchmark {
+    @Param({"platform", "virtual-threads"})
+    public String mode;
+
+    @Param({"2"})
+    public long dbLatencyMillis;
+
+    @Param({"20"})
+    public int poolSize;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private URI[] rosterUris;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.startServer(
+                applicationContext -> applicationContext.getBeanFactory()
+                        .addBeanPostProcessor(new LatencyInjector(dbLatencyMillis)),
+                "server.port=0",
+                "spring.profiles.active=" + ("platform".equals(mode) ? "default" : mode),
+                "spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                "db.permits.acquire-timeout=30s",
+                "ledger.snapshot.enabled=false");
+        BenchmarkContext.seedPlayers(context, 200);
+        String port = context.getEnvironment().getProperty("local.server.port");
+        rosterUris = new URI[4];
+        for (int i = 0; i < rosterUris.length; i++) {
+            rosterUris[i] = URI.create("http://localhost:" + port + "/teams/" + (i + 1) + "/players");
+        }
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @Threads(400)
+    public int roster() throws Exception {
+        URI uri = rosterUris[ThreadLocalRandom.current().nextInt(rosterUris.length)];
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode());
+        }
+        return response.body().length;
+    }
+
+    /**
+     * Delays every {@code prepareStatement} call of the application data source.
+     */
+    private record LatencyInjector(long latencyMillis) implements BeanPostProcessor {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || latencyMillis == 0) {
+                return bean;
+            }
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    return delayed(super.getConnection());
+                }
+            };
+        }
+
+        private Connection delayed(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().startsWith("prepare")) {
+                            Thread.sleep(latencyMillis);
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package org.example.footballmanager.benchmark;
+
+import org.example.footballmanager.FootballManagerApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time from launching a new JVM to the first successful {@code GET /teams}, for the default
+ * configuration and the {@code fast-start} profile. The database is an H2 file migrated once
+ * per trial, so {@code fast-start}, which skips Liquibase, finds the schema in place as a
+ * replica would. {@code cds=true} starts from the {@code target/cds} layout with its archive and
+ * {@code aot=true} runs the AOT-generated bean definitions; build them first with
+ * {@code ./mvnw -Paot,cds,benchmark verify -Djmh.args="StartupBenchmark -p aot=true"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StartupBenchmark {
+    private static final Path CDS_DIRECTORY = Path.of("target", "cds");
+    private static final long TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(3);
+
+    @Param({"default", "fast-start"})
+    public String profile;
+
+    @Param({"false", "true"})
+    public boolean cds;
+
+    @Param({"false"})
+    public boolean aot;
+
+    private Path databaseDirectory;
+    private String databaseUrl;
+    private HttpClient client;
+    private List<String> command;
+    private URI teamsUri;
+    private Process process;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        if (cds && !Files.exists(CDS_DIRECTORY.resolve("application.jsa"))) {
+            throw new IllegalStateException("No CDS archive in " + CDS_DIRECTORY + ", build with -Pcds first");
+        }
+        databaseDirectory = Files.createTempDirectory("startup-bench");
+        databaseUrl = "jdbc:h2:file:" + databaseDirectory.resolve("football_manager").toAbsolutePath() + ";MODE=MySQL";
+        BenchmarkContext.start("spring.datasource.url=" + databaseUrl).close();
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(1))
+                .build();
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareLaunch() throws IOException {
+        int port = freePort();
+        teamsUri = URI.create("http://localhost:" + port + "/teams");
+        command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Dspring.aot.enabled=" + aot));
+        if (cds) {
+            command.add("-XX:SharedArchiveFile=" + CDS_DIRECTORY.resolve("application.jsa"));
+        }
+        command.add("-cp");
+        command.add(classPath());
+        command.add(FootballManagerApplication.class.getName());
+        command.addAll(Arrays.asList(BenchmarkContext.arguments(
+                "spring.datasource.url=" + databaseUrl,
+                "spring.profiles.active=" + profile,
+                "server.port=" + port)));
+    }
+
+    @TearDown(Level.Invocation)
+    public void stopApplication() throws InterruptedException {
+        if (process != null) {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+            process = null;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (var files = Files.walk(databaseDirectory)) {
+            for (Path file : files.sorted((a, b) -> b.compareTo(a)).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public int firstTeamsResponse() throws Exception {
+        long started = System.nanoTime();
+        process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        HttpRequest request = HttpRequest.newBuilder(teamsUri).GET().build();
+        while (System.nanoTime() - started < TIMEOUT_NANOS) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with " + process.exitValue());
+            }
+            try {
+                HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                if (response.statusCode() == 200) {
+                    return response.body().length;
+                }
+            } catch (ConnectException e) {
+                // not listening yet
+            }
+            Thread.sleep(5);
+        }
+        throw new IllegalStateException("No successful GET /teams within " + TimeUnit.NANOSECONDS.toSeconds(TIMEOUT_NANOS) + "s");
+    }
+
+    /**
+     * The CDS layout when it has been built, for both {@code cds} values so that only the archive
+     * differs, plus the benchmark's H2 driver after the archived entries; otherwise the
+     * benchmark's own class path.
+     */
+    private static String classPath() {
+        String classPath = System.getProperty("java.class.path");
+        if (!Files.exists(CDS_DIRECTORY.resolve("application.jsa"))) {
+            return classPath;
+        }
+        String driver = Arrays.stream(classPath.split(File.pathSeparator))
+                .filter(entry -> Path.of(entry).getFileName().toString().startsWith("h2-"))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("H2 driver is not on the class path"));
+        return String.join(File.pathSeparator,
+                CDS_DIRECTORY.resolve("application.jar").toString(),
+                CDS_DIRECTORY.resolve("lib").resolve("*").toString(),
+                driver);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
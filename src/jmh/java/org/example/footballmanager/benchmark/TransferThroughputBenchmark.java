@@ -0,0 +1,94 @@
+package org.example.footballmanager.benchmark;
+
+import org.example.footballmanager.dto.TransferRequestDto;
+import org.example.footballmanager.service.TransferService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end {@link TransferService#performTransfer} throughput. Transfers that lose a
+ * concurrency conflict or break a transfer rule are counted as completed operations too,
+ * since they still cost a full transaction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransferThroughputBenchmark {
+    private static final int PLAYERS = 2000;
+
+    private ConfigurableApplicationContext context;
+    private TransferService transferService;
+    private long[] playerIds;
+    private long[] teamIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        BenchmarkContext.seedPlayers(context, PLAYERS);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("UPDATE team SET account_balance = 1000000000000");
+        playerIds = toArray(jdbcTemplate.queryForList("SELECT id FROM player ORDER BY id", Long.class));
+        teamIds = toArray(jdbcTemplate.queryForList("SELECT id FROM team ORDER BY id", Long.class));
+        transferService = context.getBean(TransferService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void transfer1Thread(Blackhole blackhole) {
+        transfer(blackhole);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void transfer8Threads(Blackhole blackhole) {
+        transfer(blackhole);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public void transfer32Threads(Blackhole blackhole) {
+        transfer(blackhole);
+    }
+
+    private void transfer(Blackhole blackhole) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        TransferRequestDto dto = new TransferRequestDto();
+        dto.setPlayerId(playerIds[random.nextInt(playerIds.length)]);
+        dto.setBuyingTeamId(teamIds[random.nextInt(teamIds.length)]);
+        try {
+            transferService.performTransfer(dto);
+        } catch (RuntimeException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    private static long[] toArray(List<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.footballmanager.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.example.footballmanager.dto.player.PlayerDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialization cost of one {@code GET /players} page per wire format, optionally gzipped the way
+ * Tomcat compresses responses above {@code server.compression.min-response-size}. The mappers
+ * are built like the application's message converters. Bytes on the wire per page are printed
+ * once per trial; run with {@code -prof gc} for allocation per page.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"identity", "gzip"})
+    public String encoding;
+
+    @Param({"20", "500"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<PlayerDto> page;
+    private ByteArrayOutputStream buffer;
+
+    @Setup
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        objectMapper = switch (format) {
+            case "json" -> builder.build();
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            case "smile" -> builder.factory(new SmileFactory()).build();
+            default -> throw new IllegalArgumentException("Unknown format " + format);
+        };
+        List<PlayerDto> players = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            PlayerDto player = new PlayerDto();
+            player.setId((long) i + 1);
+            player.setName("Bench Player " + i);
+            player.setAge(18 + i % 20);
+            player.setExperienceMonths(i % 120);
+            player.setTeamId((long) (i % 4) + 1);
+            player.setVersion((long) i % 3);
+            players.add(player);
+        }
+        page = new PageImpl<>(players, PageRequest.of(0, pageSize), 20_000);
+        buffer = new ByteArrayOutputStream(64 * 1024);
+        System.out.printf("%n%s/%s, %d players: %d bytes per page%n", format, encoding, pageSize, serialize());
+    }
+
+    @Benchmark
+    public int serialize() throws IOException {
+        buffer.reset();
+        if ("gzip".equals(encoding)) {
+            try (OutputStream gzip = new GZIPOutputStream(buffer, 8192)) {
+                objectMapper.writeValue(gzip, page);
+            }
+        } else {
+            objectMapper.writeValue(buffer, page);
+        }
+        return buffer.size();
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.footballmanager.mapper;
+
+import org.example.footballmanager.dto.player.PlayerDto;
+import org.example.footballmanager.dto.team.TeamDto;
+import org.example.footballmanager.mapper.impl.PlayerMapperImpl;
+import org.example.footballmanager.mapper.impl.TeamMapperImpl;
+import org.example.footballmanager.model.Money;
+import org.example.footballmanager.model.Player;
+import org.example.footballmanager.model.Team;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    private PlayerMapper playerMapper;
+    private TeamMapper teamMapper;
+    private Player player;
+    private Team team;
+
+    @Setup
+    public void setUp() {
+        playerMapper = new PlayerMapperImpl();
+        teamMapper = new TeamMapperImpl();
+
+        team = new Team();
+        team.setId(1L);
+        team.setName("Team A");
+        team.setAccountBalance(Money.of(new BigDecimal("1000000.00")));
+        team.setCommissionPercentage(new BigDecimal("5.00"));
+
+        player = new Player();
+        player.setId(1L);
+        player.setName("Player A1");
+        player.setAge(22);
+        player.setExperienceMonths(24);
+        player.setCurrentTeam(team);
+    }
+
+    @Benchmark
+    public PlayerDto playerToDto() {
+        return playerMapper.toDto(player);
+    }
+
+    @Benchmark
+    public TeamDto teamToDto() {
+        return teamMapper.toDto(team);
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.footballmanager.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.footballmanager.config.TransferQuoteProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the raw fee formula ({@code compute}) with the memoized lookup ({@code calculate}).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransferFeeBenchmark {
+    private TransferFeeCalculator feeCalculator;
+    private int[] ages;
+    private int[] experienceMonths;
+    private BigDecimal commissionPercentage;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        feeCalculator = new TransferFeeCalculator(new TransferQuoteProperties(), new SimpleMeterRegistry());
+        commissionPercentage = new BigDecimal("3.50");
+        ages = new int[64];
+        experienceMonths = new int[64];
+        for (int i = 0; i < ages.length; i++) {
+            ages[i] = 18 + i % 20;
+            experienceMonths[i] = i * 3;
+        }
+    }
+
+    @Benchmark
+    public TransferFee compute() {
+        int i = index++ & (ages.length - 1);
+        return feeCalculator.compute(ages[i], experienceMonths[i], commissionPercentage);
+    }
+
+    @Benchmark
+    public TransferFee calculate() {
+        int i = index++ & (ages.length - 1);
+        return feeCalculator.calculate(ages[i], experienceMonths[i], commissionPercentage);
+    }
+}
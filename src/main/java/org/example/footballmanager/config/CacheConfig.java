@@ -0,0 +1,35 @@
+package org.example.footballmanager.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Bounded read-through caches for {@code TeamDto} and {@code PlayerDto}. The manager is
+ * transaction-aware, so evictions issued inside a transaction are applied after commit and a
+ * concurrent read cannot re-populate the cache with the pre-commit state.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String TEAMS = "teams";
+    public static final String PLAYERS = "players";
+
+    @Bean
+    public CacheManager cacheManager(DtoCacheProperties properties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats());
+        cacheManager.setCacheNames(List.of(TEAMS, PLAYERS));
+        cacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.footballmanager.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "concurrency-limit")
+public class ConcurrencyLimitProperties {
+    private boolean enabled = true;
+
+    private List<String> paths = List.of("/transfers", "/transfers/*", "/players", "/players/*");
+
+    /**
+     * Paths under {@code paths} that bypass the limiter: streams, bulk loads and batches run for
+     * far longer than ordinary requests, and a single sample of theirs would shrink the limit
+     * for everything else.
+     */
+    private Set<String> excludedPaths = Set.of("/players/export", "/players/bulk", "/transfers/batch",
+            "/transfers/simulate");
+
+    private int initialLimit = 20;
+
+    private int minLimit = 4;
+
+    private int maxLimit = 200;
+
+    /**
+     * How much slower than the long-term average a request may get before the limit shrinks.
+     */
+    private double tolerance = 1.5;
+
+    /**
+     * Weight of each new limit estimate, between 0 and 1.
+     */
+    private double smoothing = 0.2;
+
+    /**
+     * Samples averaged into the long-term latency.
+     */
+    private int longWindow = 600;
+
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
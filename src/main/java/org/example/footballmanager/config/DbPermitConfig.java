@@ -0,0 +1,70 @@
+package org.example.footballmanager.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application {@link DataSource} in a {@link PermitLimitedDataSource} when
+ * {@code db.permits.enabled=true}; the {@code virtual-threads} profile turns it on.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "db.permits", name = "enabled", havingValue = "true")
+public class DbPermitConfig {
+
+    /**
+     * Order of the post-processor that wraps the data source: after
+     * {@link ReplicaRoutingConfig#ORDER}, so the permits sit outside replica routing and limit
+     * primary and replica connections together.
+     */
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 10;
+
+    @Bean
+    public static PermitLimitedDataSourcePostProcessor permitLimitedDataSourcePostProcessor(
+            ObjectProvider<DbPermitProperties> properties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new PermitLimitedDataSourcePostProcessor(properties, meterRegistry);
+    }
+
+    static class PermitLimitedDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+        private final ObjectProvider<DbPermitProperties> properties;
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+
+        PermitLimitedDataSourcePostProcessor(ObjectProvider<DbPermitProperties> properties,
+                                             ObjectProvider<MeterRegistry> meterRegistry) {
+            this.properties = properties;
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || bean instanceof PermitLimitedDataSource) {
+                return bean;
+            }
+            DbPermitProperties limits = properties.getObject();
+            PermitLimitedDataSource limited = new PermitLimitedDataSource(
+                    dataSource, limits.getMaxConcurrent(), limits.getAcquireTimeout());
+            meterRegistry.ifAvailable(registry -> {
+                Gauge.builder("db.permits.available", limited, PermitLimitedDataSource::getAvailablePermits)
+                        .description("Database permits not currently held")
+                        .register(registry);
+                Gauge.builder("db.permits.waiting", limited, PermitLimitedDataSource::getQueueLength)
+                        .description("Threads waiting for a database permit")
+                        .register(registry);
+            });
+            return limited;
+        }
+
+        @Override
+        public int getOrder() {
+            return ORDER;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.footballmanager.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "db.permits")
+public class DbPermitProperties {
+    private boolean enabled = false;
+
+    private int maxConcurrent = 10;
+
+    private Duration acquireTimeout = Duration.ofSeconds(5);
+}
@@ -0,0 +1,16 @@
+package org.example.footballmanager.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache.dto")
+public class DtoCacheProperties {
+    private long maximumSize = 10_000;
+
+    private Duration timeToLive = Duration.ofMinutes(5);
+}
@@ -0,0 +1,31 @@
+package org.example.footballmanager.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.footballmanager.controller.IdempotencyFilter;
+import org.example.footballmanager.service.IdempotencyStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Registers {@link IdempotencyFilter} for the create endpoints listed in
+ * {@code idempotency.paths}. Only {@code POST} requests carrying an {@code Idempotency-Key}
+ * header are intercepted; everything else passes straight through.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "idempotency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyConfig {
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyStore store,
+                                                                       IdempotencyProperties properties,
+                                                                       ObjectMapper objectMapper) {
+        FilterRegistrationBean<IdempotencyFilter> registration =
+                new FilterRegistrationBean<>(new IdempotencyFilter(store, properties, objectMapper));
+        registration.setUrlPatterns(properties.getPaths());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 100);
+        return registration;
+    }
+}
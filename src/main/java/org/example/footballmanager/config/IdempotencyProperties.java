@@ -0,0 +1,35 @@
+package org.example.footballmanager.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyProperties {
+    private boolean enabled = true;
+
+    private StoreType store = StoreType.MEMORY;
+
+    private List<String> paths = List.of("/transfers", "/transfers/batch", "/players");
+
+    private Duration ttl = Duration.ofHours(24);
+
+    private long maxEntries = 100000;
+
+    private Duration inFlightTimeout = Duration.ofMinutes(1);
+
+    private DataSize maxBodySize = DataSize.ofMegabytes(1);
+
+    private Duration purgeInterval = Duration.ofMinutes(10);
+
+    public enum StoreType {
+        MEMORY,
+        JDBC
+    }
+}
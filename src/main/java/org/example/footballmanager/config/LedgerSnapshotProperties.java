@@ -0,0 +1,22 @@
+package org.example.footballmanager.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ledger.snapshot")
+public class LedgerSnapshotProperties {
+    private boolean enabled = true;
+
+    private Duration interval = Duration.ofHours(1);
+
+    /**
+     * How far behind the current time snapshots are cut. Must exceed the longest transfer
+     * transaction, so every ledger entry older than the cut-off is already committed.
+     */
+    private Duration settleLag = Duration.ofMinutes(5);
+}
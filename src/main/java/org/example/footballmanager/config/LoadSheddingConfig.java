@@ -0,0 +1,60 @@
+package org.example.footballmanager.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.footballmanager.controller.AdaptiveConcurrencyLimiter;
+import org.example.footballmanager.controller.ConcurrencyLimitFilter;
+import org.example.footballmanager.controller.RateLimitFilter;
+import org.example.footballmanager.controller.TokenBucketRateLimiter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Registers the per-client rate limiter ({@code 429}) and, behind it, the adaptive concurrency
+ * limiter ({@code 503}) for the paths in {@code rate-limit.paths} and
+ * {@code concurrency-limit.paths}. Both run before {@code IdempotencyFilter}, so rejected
+ * requests never reserve an idempotency key.
+ */
+@Configuration
+public class LoadSheddingConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(RateLimitProperties properties,
+                                                                   ObjectMapper objectMapper,
+                                                                   MeterRegistry meterRegistry) {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(properties, System::nanoTime);
+        Gauge.builder("api.rate_limit.clients", limiter, TokenBucketRateLimiter::clientCount)
+                .description("Clients with a token bucket")
+                .register(meterRegistry);
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(
+                new RateLimitFilter(limiter, properties.getClientHeader(), objectMapper, meterRegistry));
+        registration.setUrlPatterns(properties.getPaths());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 50);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "concurrency-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(ConcurrencyLimitProperties properties,
+                                                                                 ObjectMapper objectMapper,
+                                                                                 MeterRegistry meterRegistry) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+        Gauge.builder("api.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive limit of requests in flight")
+                .register(meterRegistry);
+        Gauge.builder("api.concurrency.in_flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Requests in flight under the adaptive limit")
+                .register(meterRegistry);
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(limiter, properties.getExcludedPaths(), properties.getRetryAfter(),
+                        objectMapper, meterRegistry));
+        registration.setUrlPatterns(properties.getPaths());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 60);
+        return registration;
+    }
+}
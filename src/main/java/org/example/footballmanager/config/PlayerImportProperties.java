@@ -0,0 +1,12 @@
+package org.example.footballmanager.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "player.import")
+public class PlayerImportProperties {
+    private int chunkSize = 500;
+}
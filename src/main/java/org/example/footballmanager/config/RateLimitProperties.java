@@ -0,0 +1,37 @@
+package org.example.footballmanager.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+
+    private List<String> paths = List.of("/transfers", "/transfers/*", "/players", "/players/*");
+
+    /**
+     * Requests a client may send in a burst before it is throttled.
+     */
+    private int capacity = 50;
+
+    /**
+     * Sustained requests per second allowed per client.
+     */
+    private double refillPerSecond = 20;
+
+    /**
+     * Header identifying the client, for deployments behind a gateway that authenticates callers
+     * and sets it. The remote address is used when this is empty or the header is missing.
+     */
+    private String clientHeader;
+
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    private long maxClients = 100000;
+}
@@ -0,0 +1,35 @@
+package org.example.footballmanager.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * Turns {@code spring.jpa.open-in-view} off when {@code db.replicas.enabled=true}. An open
+ * session holds its connection for the whole request, so a read-write transaction that follows
+ * a read-only one in the same request would run on the replica connection the first one fetched
+ * from {@link ReplicaRoutingDataSource}. Setting {@code spring.jpa.open-in-view=true} explicitly
+ * together with replicas fails startup.
+ */
+public class ReplicaOpenInViewEnvironmentPostProcessor implements EnvironmentPostProcessor {
+    static final String OPEN_IN_VIEW = "spring.jpa.open-in-view";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!environment.getProperty("db.replicas.enabled", Boolean.class, false)) {
+            return;
+        }
+        Boolean openInView = environment.getProperty(OPEN_IN_VIEW, Boolean.class);
+        if (Boolean.TRUE.equals(openInView)) {
+            throw new IllegalStateException(OPEN_IN_VIEW + "=true cannot be combined with db.replicas.enabled=true: "
+                    + "writes after a read-only transaction in the same request would go to a replica");
+        }
+        if (openInView == null) {
+            environment.getPropertySources().addLast(
+                    new MapPropertySource("replicaOpenInView", Map.of(OPEN_IN_VIEW, false)));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.footballmanager.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps read-only transactions, which {@link ReplicaRoutingDataSource} sends to a replica, from
+ * filling the second-level cache. A replica may lag behind the primary, and an entity or
+ * collection cached from it would later be served to write transactions on the primary. For the
+ * duration of a read-only transaction the session uses {@link CacheMode#GET}: it still reads
+ * the cache but adds nothing to it.
+ */
+public class ReplicaReadCacheModeListener implements TransactionExecutionListener {
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    public ReplicaReadCacheModeListener(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (beginFailure != null || !transaction.isReadOnly()) {
+            return;
+        }
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        if (factory == null
+                || !(TransactionSynchronizationManager.getResource(factory) instanceof EntityManagerHolder holder)) {
+            return;
+        }
+        Session session = holder.getEntityManager().unwrap(Session.class);
+        CacheMode previous = session.getCacheMode();
+        session.setCacheMode(CacheMode.GET);
+        // with open-in-view the session outlives the transaction
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                session.setCacheMode(previous);
+            }
+        });
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.footballmanager.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Wraps the application {@link DataSource} in a {@link ReplicaRoutingDataSource} when
+ * {@code db.replicas.enabled=true}. Each replica gets its own Hikari pool, configured from
+ * {@code spring.datasource.hikari.*} like the primary's.
+ * <p>
+ * Replicas lag behind the primary, so reads that must see the latest write, such as the cached
+ * {@code getTeamById} and {@code getPlayerById} lookups, run in read-write transactions, and
+ * read-only transactions do not populate the second-level cache.
+ * {@link ReplicaOpenInViewEnvironmentPostProcessor} keeps open-in-view off, so each transaction
+ * fetches its own connection.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "db.replicas", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    /**
+     * Order of the post-processor that wraps the data source. It runs before
+     * {@link DbPermitConfig#ORDER}, so routing sits inside the permit limiter and replica
+     * connections count against {@code db.permits.max-concurrent} too.
+     */
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 20;
+
+    @Bean
+    public static ReplicaRoutingDataSourcePostProcessor replicaRoutingDataSourcePostProcessor(
+            ObjectProvider<ReplicaRoutingProperties> properties,
+            ObjectProvider<DataSourceProperties> dataSourceProperties,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            Environment environment) {
+        return new ReplicaRoutingDataSourcePostProcessor(properties, dataSourceProperties, meterRegistry, environment);
+    }
+
+    @Bean
+    public ReplicaReadCacheModeListener replicaReadCacheModeListener(
+            ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        return new ReplicaReadCacheModeListener(entityManagerFactory);
+    }
+
+    private static HikariDataSource replicaPool(String name, ReplicaRoutingProperties.Node node,
+                                                ReplicaRoutingProperties replicas,
+                                                DataSourceProperties primary, Environment environment,
+                                                ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariDataSource pool = primary.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(node.getUrl())
+                .username(node.getUsername() != null ? node.getUsername() : primary.determineUsername())
+                .password(node.getPassword() != null ? node.getPassword() : primary.determinePassword())
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        pool.setConnectionTimeout(replicas.getConnectionTimeout().toMillis());
+        // start even if the replica is down; the router skips it until it answers
+        pool.setInitializationFailTimeout(-1);
+        meterRegistry.ifAvailable(registry -> pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+        return pool;
+    }
+
+    static class ReplicaRoutingDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+        private final ObjectProvider<ReplicaRoutingProperties> properties;
+        private final ObjectProvider<DataSourceProperties> dataSourceProperties;
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+        private final Environment environment;
+
+        ReplicaRoutingDataSourcePostProcessor(ObjectProvider<ReplicaRoutingProperties> properties,
+                                              ObjectProvider<DataSourceProperties> dataSourceProperties,
+                                              ObjectProvider<MeterRegistry> meterRegistry,
+                                              Environment environment) {
+            this.properties = properties;
+            this.dataSourceProperties = dataSourceProperties;
+            this.meterRegistry = meterRegistry;
+            this.environment = environment;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || bean instanceof ReplicaRoutingDataSource) {
+                return bean;
+            }
+            ReplicaRoutingProperties replicas = properties.getObject();
+            Map<String, DataSource> pools = new LinkedHashMap<>();
+            for (int i = 0; i < replicas.getNodes().size(); i++) {
+                String name = "replica-" + i;
+                pools.put(name, replicaPool(name, replicas.getNodes().get(i), replicas,
+                        dataSourceProperties.getObject(), environment, meterRegistry));
+            }
+            ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                    dataSource, pools, replicas.getRetryInterval(), System::nanoTime);
+            meterRegistry.ifAvailable(registry -> {
+                Gauge.builder("db.replicas.available", routing, ReplicaRoutingDataSource::getAvailableReplicas)
+                        .description("Read replicas currently accepting connections")
+                        .register(registry);
+                FunctionCounter.builder("db.replicas.fallbacks", routing, ReplicaRoutingDataSource::getFallbackCount)
+                        .description("Read-only connections served by the primary because no replica was available")
+                        .register(registry);
+            });
+            return routing;
+        }
+
+        @Override
+        public int getOrder() {
+            return ORDER;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package org.example.footballmanager.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Sends read-only transactions to read replicas and everything else to the primary.
+ * <p>
+ * Transaction managers open their connection before any statement runs and only then mark it
+ * read-only, so the choice cannot be made when the connection is requested. As a
+ * {@link LazyConnectionDataSourceProxy} this data source hands out a placeholder and fetches the
+ * physical connection at the first statement: from a replica if the transaction flagged it
+ * read-only, from the primary otherwise. Writes, and reads inside read-write transactions,
+ * therefore always see the primary.
+ * <p>
+ * Replicas are taken round-robin. One that fails to hand out a connection is skipped for
+ * {@code retryInterval}, then tried again by the next read; while none is available reads fall
+ * back to the primary.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long retryIntervalNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger next = new AtomicInteger();
+    private final LongAdder fallbacks = new LongAdder();
+
+    /**
+     * @param replicas replica data sources by name; closed with this data source if they are
+     *                 {@link AutoCloseable}
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    Duration retryInterval, LongSupplier nanoClock) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("At least one read replica is required");
+        }
+        this.primary = primary;
+        this.replicas = new ArrayList<>(replicas.size());
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.retryIntervalNanos = retryInterval.toNanos();
+        this.nanoClock = nanoClock;
+        setTargetDataSource(primary);
+        setReadOnlyDataSource(new ReplicaSelector());
+        afterPropertiesSet();
+    }
+
+    public int getAvailableReplicas() {
+        long now = nanoClock.getAsLong();
+        return (int) replicas.stream().filter(replica -> replica.isAvailable(now)).count();
+    }
+
+    /**
+     * Read-only connections served by the primary because no replica was available.
+     */
+    public long getFallbackCount() {
+        return fallbacks.sum();
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection readOnlyConnection(String username, String password) throws SQLException {
+        long now = nanoClock.getAsLong();
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.isAvailable(now)) {
+                continue;
+            }
+            try {
+                Connection connection = username == null
+                        ? replica.dataSource.getConnection()
+                        : replica.dataSource.getConnection(username, password);
+                replica.markUp();
+                return connection;
+            } catch (SQLException | RuntimeException e) {
+                log.warn("Read replica {} is unavailable, skipping it for {}",
+                        replica.name, Duration.ofNanos(retryIntervalNanos), e);
+                replica.markDown(now + retryIntervalNanos);
+            }
+        }
+        fallbacks.increment();
+        return username == null ? primary.getConnection() : primary.getConnection(username, password);
+    }
+
+    private class ReplicaSelector extends AbstractDataSource {
+        @Override
+        public Connection getConnection() throws SQLException {
+            return readOnlyConnection(null, null);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return readOnlyConnection(username, password);
+        }
+    }
+
+    private static class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean down;
+        private volatile long retryAt;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        boolean isAvailable(long now) {
+            return !down || now - retryAt >= 0;
+        }
+
+        void markDown(long retryAt) {
+            this.retryAt = retryAt;
+            this.down = true;
+        }
+
+        void markUp() {
+            if (down) {
+                log.info("Read replica {} is available again", name);
+                down = false;
+            }
+        }
+    }
+}
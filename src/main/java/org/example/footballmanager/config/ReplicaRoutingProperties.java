@@ -0,0 +1,43 @@
+package org.example.footballmanager.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "db.replicas")
+public class ReplicaRoutingProperties {
+    private boolean enabled = false;
+
+    /**
+     * Read replicas, used round-robin by read-only transactions. A replica without a username or
+     * password uses the primary's.
+     */
+    private List<Node> nodes = new ArrayList<>();
+
+    /**
+     * How long a replica that failed to hand out a connection is skipped before it is tried again.
+     */
+    private Duration retryInterval = Duration.ofSeconds(30);
+
+    /**
+     * Connection timeout of the replica pools; kept short so a replica that stops answering
+     * falls back to the primary quickly.
+     */
+    private Duration connectionTimeout = Duration.ofSeconds(2);
+
+    @Getter
+    @Setter
+    public static class Node {
+        private String url;
+
+        private String username;
+
+        private String password;
+    }
+}
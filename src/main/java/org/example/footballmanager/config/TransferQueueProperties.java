@@ -0,0 +1,26 @@
+package org.example.footballmanager.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transfer.queue")
+public class TransferQueueProperties {
+    private boolean enabled = false;
+
+    private int partitions = 8;
+
+    private int capacity = 10000;
+
+    private int maxBatchSize = 200;
+
+    private Duration pollInterval = Duration.ofMillis(100);
+
+    private Duration statusRetention = Duration.ofHours(1);
+
+    private long maxStatuses = 100000;
+}
@@ -0,0 +1,16 @@
+package org.example.footballmanager.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transfer.quote")
+public class TransferQuoteProperties {
+    private long feeCacheSize = 10000;
+
+    private int maxPairs = 1000;
+
+    private int parallelThreshold = 64;
+}
@@ -0,0 +1,27 @@
+package org.example.footballmanager.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transfer.settlement")
+public class TransferSettlementProperties {
+    private Mode mode = Mode.DEFAULT;
+
+    private int lockStripes = 64;
+
+    private int maxAttempts = 5;
+
+    private Duration initialBackoff = Duration.ofMillis(10);
+
+    private Duration maxBackoff = Duration.ofMillis(200);
+
+    public enum Mode {
+        DEFAULT,
+        LOCKING
+    }
+}
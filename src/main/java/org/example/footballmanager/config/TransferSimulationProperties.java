@@ -0,0 +1,23 @@
+package org.example.footballmanager.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transfer.simulation")
+public class TransferSimulationProperties {
+    /**
+     * Worker threads of the simulation fork-join pool; {@code 0} uses one per available processor.
+     */
+    private int parallelism = 0;
+
+    private int defaultRuns = 100;
+
+    private int defaultTransfersPerRun = 1000;
+
+    private int maxRuns = 1000;
+
+    private int maxTransfersPerRun = 100000;
+}
@@ -0,0 +1,32 @@
+package org.example.footballmanager.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Compact binary alternatives to JSON for clients that ask for them with
+ * {@code Accept: application/cbor} or {@code Accept: application/x-jackson-smile}; JSON stays
+ * the default. Both mappers come from the Boot-configured {@link Jackson2ObjectMapperBuilder}, so
+ * they write the same fields as the JSON one. The beans take the place of Spring MVC's default
+ * CBOR and Smile converters, after the JSON converter.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "api.binary-formats", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class WireFormatConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.footballmanager.controller;
+
+import org.example.footballmanager.config.ConcurrencyLimitProperties;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Caps the number of requests in flight at a limit that follows observed latency, after the
+ * gradient algorithm of Netflix's concurrency-limits. Every completed request updates a short and
+ * a long moving average of its latency. While the short average stays within
+ * {@code tolerance} times the long one the limit grows by about its square root; when requests
+ * slow down, as they do once the connection pool or the database saturates, it shrinks in
+ * proportion. The limit only grows while at least half of it is in use, so an idle service does
+ * not drift to the maximum.
+ * <p>
+ * Admission is a compare-and-set on the in-flight counter. Estimates are updated by one thread
+ * at a time; samples that complete while another thread is updating are skipped.
+ */
+public class AdaptiveConcurrencyLimiter {
+    private static final int SHORT_WINDOW = 10;
+
+    private final ConcurrencyLimitProperties properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock estimateLock = new ReentrantLock();
+    private volatile double limit;
+    private double shortLatency;
+    private double longLatency;
+    private long samples;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        if (properties.getMinLimit() <= 0 || properties.getMinLimit() > properties.getMaxLimit()) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 0 < min-limit <= max-limit");
+        }
+        this.properties = properties;
+        this.limit = clamp(properties.getInitialLimit(), properties.getMinLimit(), properties.getMaxLimit());
+    }
+
+    /**
+     * Admits a request if fewer than {@link #getLimit()} are in flight. Every admitted request
+     * must be followed by one {@link #release(long)}.
+     */
+    public boolean tryAcquire() {
+        int current = inFlight.get();
+        while (current < (int) limit) {
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+            current = inFlight.get();
+        }
+        return false;
+    }
+
+    public void release(long latencyNanos) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        if (!estimateLock.tryLock()) {
+            return;
+        }
+        try {
+            update(Math.max(1, latencyNanos), inFlightBefore);
+        } finally {
+            estimateLock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void update(long latencyNanos, int inFlightBefore) {
+        samples++;
+        if (samples == 1) {
+            shortLatency = latencyNanos;
+            longLatency = latencyNanos;
+            return;
+        }
+        shortLatency = average(shortLatency, latencyNanos, Math.min(samples, SHORT_WINDOW));
+        longLatency = average(longLatency, latencyNanos, Math.min(samples, properties.getLongWindow()));
+        // after a slow period let the long-term average catch up, or the limit would stay inflated
+        if (longLatency > 2 * shortLatency) {
+            longLatency *= 0.95;
+        }
+
+        double current = limit;
+        if (inFlightBefore < current / 2) {
+            return;
+        }
+        double gradient = clamp(properties.getTolerance() * longLatency / shortLatency, 0.5, 1.0);
+        double estimate = current * gradient + Math.sqrt(current);
+        double smoothed = current * (1 - properties.getSmoothing()) + estimate * properties.getSmoothing();
+        limit = clamp(smoothed, properties.getMinLimit(), properties.getMaxLimit());
+    }
+
+    private static double average(double average, long sample, long window) {
+        double weight = 2.0 / (window + 1);
+        return average + (sample - average) * weight;
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
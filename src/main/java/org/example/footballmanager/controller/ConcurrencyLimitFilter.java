@@ -0,0 +1,65 @@
+package org.example.footballmanager.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Sheds load with an immediate {@code 503} and {@code Retry-After} when the adaptive limit of
+ * requests in flight is reached, instead of letting requests queue for a connection until they
+ * time out. The latency of every admitted request feeds back into the limit. Excluded paths,
+ * such as exports and bulk loads, are neither limited nor sampled.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Set<String> excludedPaths;
+    private final String retryAfter;
+    private final ObjectMapper objectMapper;
+    private final Counter rejected;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter, Set<String> excludedPaths, Duration retryAfter,
+                                  ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.excludedPaths = Set.copyOf(excludedPaths);
+        this.retryAfter = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+        this.objectMapper = objectMapper;
+        this.rejected = Counter.builder("api.requests.rejected")
+                .description("Requests turned away before reaching a controller")
+                .tag("reason", "concurrency_limit")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return excludedPaths.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!limiter.tryAcquire()) {
+            rejected.increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+            ErrorResponses.write(objectMapper, request, response, HttpStatus.SERVICE_UNAVAILABLE,
+                    "Server is at capacity (" + limiter.getLimit() + " requests in flight), please retry");
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            limiter.release(System.nanoTime() - started);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.footballmanager.controller;
+
+import org.example.footballmanager.exeption.PreconditionFailedException;
+
+/**
+ * Strong entity tags derived from the {@code @Version} of a team or player. A resource changes
+ * its tag exactly when a committed update bumps its version.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Returns the version named by an {@code If-Match} header, or {@code null} when the header is
+     * absent or {@code *}. Weak or foreign tags can never match and fail the precondition.
+     */
+    static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.valueOf(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // falls through to the precondition failure below
+            }
+        }
+        throw new PreconditionFailedException("If-Match " + ifMatch + " does not match the current entity tag");
+    }
+}
@@ -1,20 +1,37 @@
 package org.example.footballmanager.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.footballmanager.dto.CursorPageDto;
+import org.example.footballmanager.dto.player.BulkImportResultDto;
 import org.example.footballmanager.dto.player.CreatePlayerRequestDto;
 import org.example.footballmanager.dto.player.PlayerDto;
+import org.example.footballmanager.dto.player.PlayerSearchRequestDto;
+import org.example.footballmanager.service.PlayerImportService;
 import org.example.footballmanager.service.PlayerService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+
 @RestController
 @RequestMapping("/players")
 @RequiredArgsConstructor
 public class PlayerController {
     private final PlayerService playerService;
+    private final PlayerImportService playerImportService;
+    private final NdjsonWriter ndjsonWriter;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -22,9 +39,32 @@ public class PlayerController {
         return playerService.createPlayer(dto);
     }
 
+    /**
+     * Accepts either a JSON array or an NDJSON stream of players. Items are read lazily from the
+     * request body, so the whole payload is never held in memory. Chunks stored before a
+     * malformed item stay committed.
+     */
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, NdjsonWriter.MEDIA_TYPE})
+    public BulkImportResultDto importPlayers(HttpServletRequest request) throws IOException {
+        try (MappingIterator<CreatePlayerRequestDto> items = objectMapper.readerFor(CreatePlayerRequestDto.class)
+                .readValues(request.getInputStream())) {
+            return playerImportService.importPlayers(items);
+        } catch (RuntimeException e) {
+            if (e.getCause() instanceof JsonProcessingException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Tags the player with its version; a matching {@code If-None-Match} gets
+     * {@code 304 Not Modified} without a body.
+     */
     @GetMapping("/{id}")
-    public PlayerDto getPlayer(@PathVariable Long id) {
-        return playerService.getPlayerById(id);
+    public ResponseEntity<PlayerDto> getPlayer(@PathVariable Long id) {
+        PlayerDto player = playerService.getPlayerById(id);
+        return ResponseEntity.ok().eTag(ETags.of(player.getVersion())).body(player);
     }
 
     @GetMapping
@@ -32,9 +72,31 @@ public class PlayerController {
         return playerService.getAllPlayers(pageable);
     }
 
+    @GetMapping("/search")
+    public Page<PlayerDto> searchPlayers(PlayerSearchRequestDto filter, Pageable pageable) {
+        return playerService.searchPlayers(filter, pageable);
+    }
+
+    @GetMapping(params = "after")
+    public CursorPageDto<PlayerDto> getPlayersAfter(@RequestParam String after,
+                                                    @RequestParam(defaultValue = "20") int size) {
+        return playerService.getPlayersAfter(after, size);
+    }
+
+    @GetMapping(value = "/export", produces = NdjsonWriter.MEDIA_TYPE)
+    public void exportPlayers(HttpServletResponse response) throws IOException {
+        ndjsonWriter.write(response, PlayerDto.class, playerService::exportPlayers);
+    }
+
+    /**
+     * Updates the player only if its current version matches {@code If-Match}, when given; a
+     * stale tag is answered with {@code 412 Precondition Failed}.
+     */
     @PutMapping("/{id}")
-    public PlayerDto updatePlayer(@PathVariable Long id, @RequestBody @Valid CreatePlayerRequestDto dto) {
-        return playerService.updatePlayer(id, dto);
+    public ResponseEntity<PlayerDto> updatePlayer(@PathVariable Long id, @RequestBody @Valid CreatePlayerRequestDto dto,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        PlayerDto player = playerService.updatePlayer(id, dto, ETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(player.getVersion())).body(player);
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,65 @@
+package org.example.footballmanager.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttles each client to its token bucket and answers {@code 429} with {@code Retry-After}
+ * once the bucket is empty, before the request takes a thread from the controller or a
+ * database connection. Clients are told apart by {@code rate-limit.client-header} when set,
+ * otherwise by remote address.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+    private final TokenBucketRateLimiter limiter;
+    private final String clientHeader;
+    private final ObjectMapper objectMapper;
+    private final Counter rejected;
+
+    public RateLimitFilter(TokenBucketRateLimiter limiter, String clientHeader, ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.clientHeader = clientHeader;
+        this.objectMapper = objectMapper;
+        this.rejected = Counter.builder("api.requests.rejected")
+                .description("Requests turned away before reaching a controller")
+                .tag("reason", "rate_limit")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long waitNanos = limiter.tryAcquire(client(request));
+        if (waitNanos == 0) {
+            chain.doFilter(request, response);
+            return;
+        }
+        rejected.increment();
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        ErrorResponses.write(objectMapper, request, response, HttpStatus.TOO_MANY_REQUESTS,
+                "Rate limit exceeded, retry in " + retryAfterSeconds + " s");
+    }
+
+    private String client(HttpServletRequest request) {
+        if (StringUtils.hasText(clientHeader)) {
+            String client = request.getHeader(clientHeader);
+            if (StringUtils.hasText(client)) {
+                return client;
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
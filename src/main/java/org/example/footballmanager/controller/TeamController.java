@@ -1,20 +1,39 @@
 package org.example.footballmanager.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.footballmanager.dto.CursorPageDto;
+import org.example.footballmanager.dto.player.PlayerDto;
 import org.example.footballmanager.dto.team.CreateTeamRequestDto;
+import org.example.footballmanager.dto.team.TeamBalanceDto;
 import org.example.footballmanager.dto.team.TeamDto;
+import org.example.footballmanager.dto.team.TeamStatsDto;
+import org.example.footballmanager.service.PlayerService;
+import org.example.footballmanager.service.TeamBalanceService;
 import org.example.footballmanager.service.TeamService;
+import org.example.footballmanager.service.TeamStatsService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
 @RestController
 @RequestMapping("/teams")
 @RequiredArgsConstructor
 public class TeamController {
     private final TeamService teamService;
+    private final PlayerService playerService;
+    private final TeamBalanceService teamBalanceService;
+    private final TeamStatsService teamStatsService;
+    private final NdjsonWriter ndjsonWriter;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -22,9 +41,36 @@ public class TeamController {
         return teamService.createTeam(dto);
     }
 
+    /**
+     * Tags the team with its version; a matching {@code If-None-Match} gets {@code 304 Not Modified}
+     * without a body.
+     */
     @GetMapping("/{id}")
-    public TeamDto getTeam(@PathVariable Long id) {
-        return teamService.getTeamById(id);
+    public ResponseEntity<TeamDto> getTeam(@PathVariable Long id) {
+        TeamDto team = teamService.getTeamById(id);
+        return ResponseEntity.ok().eTag(ETags.of(team.getVersion())).body(team);
+    }
+
+    @GetMapping("/{id}/players")
+    public List<PlayerDto> getTeamRoster(@PathVariable Long id) {
+        return playerService.getTeamRoster(id);
+    }
+
+    @GetMapping("/{id}/balance")
+    public TeamBalanceDto getTeamBalance(@PathVariable Long id,
+                                         @RequestParam(required = false)
+                                         @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        return teamBalanceService.getBalanceAt(id, at == null ? LocalDateTime.now() : at);
+    }
+
+    @GetMapping("/{id}/stats")
+    public TeamStatsDto getTeamStats(@PathVariable Long id) {
+        return teamStatsService.getStats(id);
+    }
+
+    @GetMapping("/stats")
+    public List<TeamStatsDto> getAllTeamStats() {
+        return teamStatsService.getAllStats();
     }
 
     @GetMapping
@@ -32,9 +78,26 @@ public class TeamController {
         return teamService.getAllTeams(pageable);
     }
 
+    @GetMapping(params = "after")
+    public CursorPageDto<TeamDto> getTeamsAfter(@RequestParam String after,
+                                                @RequestParam(defaultValue = "20") int size) {
+        return teamService.getTeamsAfter(after, size);
+    }
+
+    @GetMapping(value = "/export", produces = NdjsonWriter.MEDIA_TYPE)
+    public void exportTeams(HttpServletResponse response) throws IOException {
+        ndjsonWriter.write(response, TeamDto.class, teamService::exportTeams);
+    }
+
+    /**
+     * Updates the team only if its current version matches {@code If-Match}, when given; a stale
+     * tag is answered with {@code 412 Precondition Failed}.
+     */
     @PutMapping("/{id}")
-    public TeamDto updateTeam(@PathVariable Long id, @RequestBody @Valid CreateTeamRequestDto dto) {
-        return teamService.updateTeam(id, dto);
+    public ResponseEntity<TeamDto> updateTeam(@PathVariable Long id, @RequestBody @Valid CreateTeamRequestDto dto,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TeamDto team = teamService.updateTeam(id, dto, ETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(team.getVersion())).body(team);
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,66 @@
+package org.example.footballmanager.controller;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.footballmanager.config.RateLimitProperties;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client token buckets. Each bucket is one {@link AtomicLong} holding its theoretical arrival
+ * time, the GCRA form of a token bucket: a request advances that time by one emission interval
+ * with a compare-and-set, and is refused when the time would run more than a full bucket ahead
+ * of now. Admission therefore never blocks or allocates once a client is known. Buckets of
+ * clients idle for {@code rate-limit.idle-timeout} are evicted.
+ */
+public class TokenBucketRateLimiter {
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final LongSupplier nanoClock;
+    private final Cache<String, AtomicLong> buckets;
+    private final Function<String, AtomicLong> newBucket;
+
+    public TokenBucketRateLimiter(RateLimitProperties properties, LongSupplier nanoClock) {
+        if (properties.getCapacity() <= 0 || properties.getRefillPerSecond() <= 0) {
+            throw new IllegalArgumentException("Rate limit capacity and refill rate must be positive");
+        }
+        this.emissionIntervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / properties.getRefillPerSecond()));
+        this.burstNanos = Math.multiplyExact(emissionIntervalNanos, (long) properties.getCapacity());
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(properties.getIdleTimeout())
+                .maximumSize(properties.getMaxClients())
+                .build();
+        // a new bucket starts full: its arrival time is now
+        this.newBucket = client -> new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * Takes a token for {@code client}.
+     *
+     * @return {@code 0} if the request is admitted, otherwise the nanoseconds until the next
+     * token is available
+     */
+    public long tryAcquire(String client) {
+        AtomicLong bucket = buckets.get(client, newBucket);
+        long now = nanoClock.getAsLong();
+        while (true) {
+            long arrival = bucket.get();
+            long next = (arrival - now < 0 ? now : arrival) + emissionIntervalNanos;
+            long excess = next - now - burstNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (bucket.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public long clientCount() {
+        return buckets.estimatedSize();
+    }
+}
@@ -1,21 +1,81 @@
 package org.example.footballmanager.controller;
 
+import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.footballmanager.dto.QueuedTransferDto;
+import org.example.footballmanager.dto.TransferQuoteDto;
 import org.example.footballmanager.dto.TransferRequestDto;
+import org.example.footballmanager.dto.TransferResultDto;
+import org.example.footballmanager.dto.TransferSimulationRequestDto;
+import org.example.footballmanager.dto.TransferSimulationResultDto;
+import org.example.footballmanager.service.TransferQueueService;
+import org.example.footballmanager.service.TransferQuoteService;
 import org.example.footballmanager.service.TransferService;
-import org.springframework.http.HttpStatus;
+import org.example.footballmanager.service.TransferSimulationService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+import java.util.List;
+
 @RestController
 @RequestMapping("/transfers")
 @RequiredArgsConstructor
 public class TransferController {
     private final TransferService transferService;
+    private final TransferQuoteService transferQuoteService;
+    private final TransferSimulationService transferSimulationService;
+    private final ObjectProvider<TransferQueueService> transferQueueService;
 
+    /**
+     * Settles the transfer synchronously, or, when {@code transfer.queue.enabled} is set,
+     * queues it and answers {@code 202 Accepted} with a status resource to poll.
+     */
     @PostMapping
-    @ResponseStatus(HttpStatus.OK)
-    public void performTransfer(@RequestBody @Valid TransferRequestDto dto) {
-        transferService.performTransfer(dto);
+    public ResponseEntity<QueuedTransferDto> performTransfer(
+            @RequestBody @Valid TransferRequestDto dto,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        TransferQueueService queue = transferQueueService.getIfAvailable();
+        if (queue == null) {
+            transferService.performTransfer(dto);
+            return ResponseEntity.ok().build();
+        }
+        QueuedTransferDto queued = queue.submit(dto, idempotencyKey);
+        return ResponseEntity.accepted()
+                .location(URI.create("/transfers/" + queued.getId()))
+                .body(queued);
+    }
+
+    @GetMapping("/{id}")
+    public QueuedTransferDto getTransfer(@PathVariable String id) {
+        TransferQueueService queue = transferQueueService.getIfAvailable();
+        if (queue == null) {
+            throw new EntityNotFoundException("Transfer with id " + id + " not found");
+        }
+        return queue.getStatus(id);
+    }
+
+    @PostMapping("/batch")
+    public List<TransferResultDto> performTransfers(@RequestBody List<TransferRequestDto> dtos) {
+        return transferService.performTransfers(dtos);
+    }
+
+    /**
+     * Prices one or many transfers without applying them. Quotes come back in request order.
+     */
+    @PostMapping("/quote")
+    public List<TransferQuoteDto> quoteTransfers(@RequestBody List<TransferRequestDto> dtos) {
+        return transferQuoteService.quote(dtos);
+    }
+
+    /**
+     * Replays random transfers against an in-memory copy of the market and reports the spread of
+     * final balances. Nothing is persisted.
+     */
+    @PostMapping("/simulate")
+    public TransferSimulationResultDto simulateTransfers(@RequestBody TransferSimulationRequestDto dto) {
+        return transferSimulationService.simulate(dto);
     }
-}
\ No newline at end of file
+}
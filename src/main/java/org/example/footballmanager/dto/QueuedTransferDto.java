@@ -0,0 +1,18 @@
+package org.example.footballmanager.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+public class QueuedTransferDto {
+    private String id;
+    private Long playerId;
+    private Long buyingTeamId;
+    private TransferStatus status;
+    private String reason;
+    private LocalDateTime acceptedAt;
+    private LocalDateTime settledAt;
+}
@@ -0,0 +1,16 @@
+package org.example.footballmanager.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+public class SimulatedTeamDto {
+    private Long teamId;
+    private BigDecimal initialBalance;
+    private BigDecimal meanFinalBalance;
+    private BigDecimal minFinalBalance;
+    private BigDecimal maxFinalBalance;
+}
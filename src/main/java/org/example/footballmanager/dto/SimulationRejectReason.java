@@ -0,0 +1,10 @@
+package org.example.footballmanager.dto;
+
+public enum SimulationRejectReason {
+    PLAYER_NOT_FOUND,
+    TEAM_NOT_FOUND,
+    NO_CURRENT_TEAM,
+    SAME_TEAM,
+    INVALID_AMOUNT,
+    INSUFFICIENT_FUNDS
+}
@@ -0,0 +1,19 @@
+package org.example.footballmanager.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+public class TransferQuoteDto {
+    private Long playerId;
+    private Long buyingTeamId;
+    private Long sellingTeamId;
+    private BigDecimal transferCost;
+    private BigDecimal commission;
+    private BigDecimal totalAmount;
+    private boolean affordable;
+    private String reason;
+}
@@ -0,0 +1,33 @@
+package org.example.footballmanager.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TransferResultDto {
+    private Long playerId;
+    private Long buyingTeamId;
+    private TransferStatus status;
+    private String reason;
+
+    public static TransferResultDto applied(TransferRequestDto dto) {
+        TransferResultDto result = of(dto);
+        result.setStatus(TransferStatus.APPLIED);
+        return result;
+    }
+
+    public static TransferResultDto rejected(TransferRequestDto dto, String reason) {
+        TransferResultDto result = of(dto);
+        result.setStatus(TransferStatus.REJECTED);
+        result.setReason(reason);
+        return result;
+    }
+
+    private static TransferResultDto of(TransferRequestDto dto) {
+        TransferResultDto result = new TransferResultDto();
+        result.setPlayerId(dto.getPlayerId());
+        result.setBuyingTeamId(dto.getBuyingTeamId());
+        return result;
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.footballmanager.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * A Monte Carlo run over the current market. Every run starts from the same snapshot and
+ * applies {@code transfersPerRun} transfers drawn at random from {@code candidates}, or from
+ * every (player, team) pair when no candidates are given. Runs with the same seed are
+ * reproducible.
+ */
+@Getter
+@Setter
+public class TransferSimulationRequestDto {
+    private Integer runs;
+    private Integer transfersPerRun;
+    private Long seed;
+    private List<TransferRequestDto> candidates;
+}
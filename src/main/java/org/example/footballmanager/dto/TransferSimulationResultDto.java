@@ -0,0 +1,19 @@
+package org.example.footballmanager.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+public class TransferSimulationResultDto {
+    private int runs;
+    private int transfersPerRun;
+    private long seed;
+    private long applied;
+    private Map<SimulationRejectReason, Long> rejected;
+    private List<SimulatedTeamDto> teams;
+    private long elapsedMillis;
+}
@@ -0,0 +1,8 @@
+package org.example.footballmanager.dto;
+
+public enum TransferStatus {
+    PENDING,
+    APPLIED,
+    REJECTED,
+    FAILED
+}
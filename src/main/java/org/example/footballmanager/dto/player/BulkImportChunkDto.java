@@ -0,0 +1,17 @@
+package org.example.footballmanager.dto.player;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+public class BulkImportChunkDto {
+    private int chunk;
+    private int created;
+    private int failed;
+    private List<Long> createdIds = new ArrayList<>();
+    private List<BulkImportErrorDto> errors = new ArrayList<>();
+}
@@ -0,0 +1,11 @@
+package org.example.footballmanager.dto.player;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BulkImportErrorDto {
+    private int index;
+    private String reason;
+}
@@ -0,0 +1,15 @@
+package org.example.footballmanager.dto.player;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+public class BulkImportResultDto {
+    private int created;
+    private int failed;
+    private List<BulkImportChunkDto> chunks = new ArrayList<>();
+}
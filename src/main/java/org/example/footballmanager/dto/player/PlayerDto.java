@@ -11,4 +11,5 @@ public class PlayerDto {
     private int age;
     private int experienceMonths;
     private Long teamId;
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package org.example.footballmanager.dto.player;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Optional filters of {@code GET /players/search}; every filter left {@code null} is ignored.
+ */
+@Getter
+@Setter
+public class PlayerSearchRequestDto {
+    private String name;
+    private Integer minAge;
+    private Integer maxAge;
+    private Integer minExperienceMonths;
+    private Integer maxExperienceMonths;
+    private Long teamId;
+    private Boolean freeAgent;
+}
@@ -0,0 +1,16 @@
+package org.example.footballmanager.dto.team;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+public class TeamBalanceDto {
+    private Long teamId;
+    private BigDecimal balance;
+    private LocalDateTime at;
+    private LocalDateTime snapshotAt;
+}
@@ -11,4 +11,5 @@ public class TeamDto {
     private String name;
     private BigDecimal accountBalance;
     private BigDecimal commissionPercentage;
+    private Long version;
 }
\ No newline at end of file
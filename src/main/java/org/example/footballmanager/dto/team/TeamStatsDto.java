@@ -0,0 +1,17 @@
+package org.example.footballmanager.dto.team;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+public class TeamStatsDto {
+    private Long teamId;
+    private int squadSize;
+    private BigDecimal averageAge;
+    private BigDecimal marketValue;
+    private LocalDateTime updatedAt;
+}
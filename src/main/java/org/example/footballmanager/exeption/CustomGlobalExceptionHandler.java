@@ -1,12 +1,22 @@
 package org.example.footballmanager.exception;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import org.example.footballmanager.exeption.InsufficientFundsException;
+import org.example.footballmanager.exeption.PreconditionFailedException;
+import org.example.footballmanager.exeption.TransferQueueFullException;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.validation.ObjectError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -22,6 +32,11 @@ import java.util.Map;
 
 @ControllerAdvice
 public class CustomGlobalExceptionHandler extends ResponseEntityExceptionHandler {
+    private final MeterRegistry meterRegistry;
+
+    public CustomGlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
 
     @Override
     protected ResponseEntity<Object> handleMethodArgumentNotValid(
@@ -42,41 +57,80 @@ public class CustomGlobalExceptionHandler extends ResponseEntityExceptionHandler
                 .toList();
 
         body.put("errors", errors);
+        countException(ex, HttpStatus.BAD_REQUEST);
 
         return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
     }
 
     @ExceptionHandler(EntityNotFoundException.class)
     public ResponseEntity<Object> handleEntityNotFoundException(EntityNotFoundException ex, WebRequest request) {
-        return buildErrorResponse(ex.getMessage(), HttpStatus.NOT_FOUND, request);
+        return buildErrorResponse(ex, ex.getMessage(), HttpStatus.NOT_FOUND, request);
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Object> handleIllegalArgumentException(IllegalArgumentException ex, WebRequest request) {
-        return buildErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST, request);
+        return buildErrorResponse(ex, ex.getMessage(), HttpStatus.BAD_REQUEST, request);
     }
 
     @ExceptionHandler(InvalidDataAccessApiUsageException.class)
     public ResponseEntity<Object> handleInvalidDataAccess(InvalidDataAccessApiUsageException ex, WebRequest request) {
-        return buildErrorResponse(ex.getMessage(), HttpStatus.CONFLICT, request);
+        return buildErrorResponse(ex, ex.getMessage(), HttpStatus.CONFLICT, request);
+    }
+
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<Object> handleConcurrencyFailure(ConcurrencyFailureException ex, WebRequest request) {
+        return buildErrorResponse(ex, "Concurrent modification, please retry: " + ex.getMessage(), HttpStatus.CONFLICT, request);
+    }
+
+    @ExceptionHandler({RuntimeJsonMappingException.class, JsonProcessingException.class})
+    public ResponseEntity<Object> handleJsonMapping(Exception ex, WebRequest request) {
+        return buildErrorResponse(ex, "Malformed request body: " + ex.getMessage(), HttpStatus.BAD_REQUEST, request);
     }
 
     @ExceptionHandler(ArithmeticException.class)
     public ResponseEntity<Object> handleArithmeticException(ArithmeticException ex, WebRequest request) {
-        return buildErrorResponse("Arithmetic error: " + ex.getMessage(), HttpStatus.BAD_REQUEST, request);
+        return buildErrorResponse(ex, "Arithmetic error: " + ex.getMessage(), HttpStatus.BAD_REQUEST, request);
     }
 
     @ExceptionHandler(InsufficientFundsException.class)
     public ResponseEntity<Object> handleInsufficientFunds(InsufficientFundsException ex, WebRequest request) {
-        return buildErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST, request);
+        return buildErrorResponse(ex, ex.getMessage(), HttpStatus.BAD_REQUEST, request);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<Object> handlePreconditionFailed(PreconditionFailedException ex, WebRequest request) {
+        return buildErrorResponse(ex, ex.getMessage(), HttpStatus.PRECONDITION_FAILED, request);
+    }
+
+    @ExceptionHandler(TransferQueueFullException.class)
+    public ResponseEntity<Object> handleTransferQueueFull(TransferQueueFullException ex, WebRequest request) {
+        return buildErrorResponse(ex, ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE, request);
+    }
+
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<Object> handleDatabaseUnavailable(Exception ex, WebRequest request) {
+        return buildErrorResponse(ex, "Database is busy, please retry: " + ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE, request);
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Object> handleAllOtherExceptions(Exception ex, WebRequest request) {
-        return buildErrorResponse("Unexpected error: " + ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR, request);
+        return buildErrorResponse(ex, "Unexpected error: " + ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR, request);
+    }
+
+    @Override
+    protected ResponseEntity<Object> handleExceptionInternal(
+            Exception ex,
+            @Nullable Object body,
+            HttpHeaders headers,
+            HttpStatusCode statusCode,
+            WebRequest request
+    ) {
+        countException(ex, statusCode);
+        return super.handleExceptionInternal(ex, body, headers, statusCode, request);
     }
 
-    private ResponseEntity<Object> buildErrorResponse(String message, HttpStatus status, WebRequest request) {
+    private ResponseEntity<Object> buildErrorResponse(Exception ex, String message, HttpStatus status, WebRequest request) {
+        countException(ex, status);
         Map<String, Object> body = new LinkedHashMap<>();
         body.put("timestamp", LocalDateTime.now());
         body.put("status", status.value());
@@ -86,6 +140,15 @@ public class CustomGlobalExceptionHandler extends ResponseEntityExceptionHandler
         return new ResponseEntity<>(body, status);
     }
 
+    private void countException(Exception ex, HttpStatusCode status) {
+        Counter.builder("api.exceptions")
+                .description("Exceptions turned into error responses")
+                .tag("exception", ex.getClass().getSimpleName())
+                .tag("status", String.valueOf(status.value()))
+                .register(meterRegistry)
+                .increment();
+    }
+
     private String getErrorMessage(ObjectError e) {
         if (e instanceof FieldError fieldError) {
             return fieldError.getField() + ": " + fieldError.getDefaultMessage();
@@ -0,0 +1,7 @@
+package org.example.footballmanager.exeption;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.footballmanager.exeption;
+
+public class TransferQueueFullException extends RuntimeException {
+    public TransferQueueFullException(String message) {
+        super(message);
+    }
+}
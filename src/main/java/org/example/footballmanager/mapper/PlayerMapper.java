@@ -4,6 +4,7 @@ import org.example.footballmanager.config.MapperConfig;
 import org.example.footballmanager.dto.player.CreatePlayerRequestDto;
 import org.example.footballmanager.dto.player.PlayerDto;
 import org.example.footballmanager.model.Player;
+import org.example.footballmanager.repository.projection.PlayerView;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -11,10 +12,15 @@ import org.mapstruct.MappingTarget;
 @Mapper(config = MapperConfig.class)
 public interface PlayerMapper {
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Player toEntity(CreatePlayerRequestDto dto);
 
+    @Mapping(target = "teamId", source = "currentTeam.id")
     PlayerDto toDto(Player player);
 
+    PlayerDto toDto(PlayerView view);
+
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updatePlayerFromDto(CreatePlayerRequestDto dto, @MappingTarget Player player);
 }
\ No newline at end of file
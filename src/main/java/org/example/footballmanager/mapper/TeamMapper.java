@@ -3,18 +3,34 @@ package org.example.footballmanager.mapper;
 import org.example.footballmanager.config.MapperConfig;
 import org.example.footballmanager.dto.team.CreateTeamRequestDto;
 import org.example.footballmanager.dto.team.TeamDto;
+import org.example.footballmanager.model.Money;
 import org.example.footballmanager.model.Team;
+import org.example.footballmanager.repository.projection.TeamView;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 
+import java.math.BigDecimal;
+
 @Mapper(config = MapperConfig.class)
 public interface TeamMapper {
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Team toEntity(CreateTeamRequestDto dto);
 
     TeamDto toDto(Team team);
 
+    TeamDto toDto(TeamView view);
+
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateTeamFromDto(CreateTeamRequestDto dto, @MappingTarget Team team);
+
+    default Money toMoney(BigDecimal amount) {
+        return amount == null ? null : Money.of(amount);
+    }
+
+    default BigDecimal toBigDecimal(Money money) {
+        return money == null ? null : money.toBigDecimal();
+    }
 }
\ No newline at end of file
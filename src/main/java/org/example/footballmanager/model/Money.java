@@ -0,0 +1,100 @@
+package org.example.footballmanager.model;
+
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * An amount of money held as a whole number of cents, matching the {@code decimal(19,2)}
+ * columns it is stored in. Arithmetic allocates nothing beyond the result, rounds like
+ * {@code BigDecimal} with {@link RoundingMode#HALF_UP} at scale 2, and throws
+ * {@link ArithmeticException} instead of overflowing. The representable range is about
+ * &plusmn;92 quadrillion, narrower than the column's; {@link #of} rejects anything outside it.
+ */
+@Immutable
+public record Money(long cents) implements Comparable<Money>, Serializable {
+    public static final Money ZERO = new Money(0);
+
+    private static final int SCALE = 2;
+    private static final long CENTS_PER_UNIT = 100;
+    private static final long BASIS_POINTS_PER_UNIT = 10_000;
+
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * Converts {@code amount}, rounding half up to whole cents.
+     */
+    public static Money of(BigDecimal amount) {
+        return ofCents(amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    /**
+     * {@code dividend / divisor} currency units, rounded half up to whole cents.
+     */
+    public static Money quotient(long dividend, long divisor) {
+        return ofCents(divideHalfUp(Math.multiplyExact(dividend, CENTS_PER_UNIT), divisor));
+    }
+
+    /**
+     * Converts a percentage with at most two decimals, such as a commission, to hundredths of a
+     * percent; extra decimals are rounded half up.
+     */
+    public static long basisPoints(BigDecimal percentage) {
+        return percentage.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    public Money negate() {
+        return ofCents(Math.negateExact(cents));
+    }
+
+    /**
+     * This amount times {@code basisPoints / 10000}, rounded half up to whole cents.
+     */
+    public Money percentage(long basisPoints) {
+        return ofCents(divideHalfUp(Math.multiplyExact(cents, basisPoints), BASIS_POINTS_PER_UNIT));
+    }
+
+    public boolean isLessThan(Money other) {
+        return cents < other.cents;
+    }
+
+    public int signum() {
+        return Long.signum(cents);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    private static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        // 2|remainder| >= |divisor|, written without doubling so it cannot overflow
+        if (remainder != 0 && Math.abs(remainder) >= Math.abs(divisor) - Math.abs(remainder)) {
+            quotient += (dividend ^ divisor) < 0 ? -1 : 1;
+        }
+        return quotient;
+    }
+}
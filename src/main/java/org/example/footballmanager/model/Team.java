@@ -2,11 +2,15 @@ package org.example.footballmanager.model;
 
 import lombok.Data;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.math.BigDecimal;
 import java.util.List;
 
 @Entity
 @Data
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "team")
 public class Team {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -14,10 +18,15 @@ public class Team {
 
     private String name;
 
-    private BigDecimal accountBalance;
+    @Convert(converter = MoneyConverter.class)
+    private Money accountBalance;
 
     private BigDecimal commissionPercentage;
 
+    @Version
+    private Long version;
+
     @OneToMany(mappedBy = "currentTeam")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "team-players")
     private List<Player> players;
 }
\ No newline at end of file
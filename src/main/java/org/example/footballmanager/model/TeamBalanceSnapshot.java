@@ -0,0 +1,23 @@
+package org.example.footballmanager.model;
+
+import lombok.Data;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Immutable
+@Data
+public class TeamBalanceSnapshot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long teamId;
+
+    private BigDecimal balance;
+
+    private LocalDateTime takenAt;
+}
@@ -0,0 +1,26 @@
+package org.example.footballmanager.model;
+
+import lombok.Data;
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Squad aggregates of one team, kept up to date by {@code TeamStatsService}. The age sum is
+ * stored instead of the average so that changes can be applied as exact deltas.
+ */
+@Entity
+@Data
+public class TeamStats {
+    @Id
+    private Long teamId;
+
+    private int squadSize;
+
+    private long ageSum;
+
+    private BigDecimal marketValue;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,48 @@
+package org.example.footballmanager.model;
+
+import lombok.Data;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Immutable
+@Table(name = "transfer_ledger")
+@Data
+public class TransferLedgerEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "transfer_ledger_id")
+    @TableGenerator(name = "transfer_ledger_id", table = "id_generator", pkColumnName = "name",
+            valueColumnName = "next_val", pkColumnValue = "transfer_ledger", allocationSize = 50)
+    private Long id;
+
+    private Long playerId;
+
+    private Long sellingTeamId;
+
+    private Long buyingTeamId;
+
+    @Convert(converter = MoneyConverter.class)
+    private Money transferCost;
+
+    @Convert(converter = MoneyConverter.class)
+    private Money commission;
+
+    @Convert(converter = MoneyConverter.class)
+    private Money totalAmount;
+
+    @Convert(converter = MoneyConverter.class)
+    private Money sellingBalanceBefore;
+
+    @Convert(converter = MoneyConverter.class)
+    private Money sellingBalanceAfter;
+
+    @Convert(converter = MoneyConverter.class)
+    private Money buyingBalanceBefore;
+
+    @Convert(converter = MoneyConverter.class)
+    private Money buyingBalanceAfter;
+
+    private LocalDateTime createdAt;
+}
@@ -1,7 +1,69 @@
 package org.example.footballmanager.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.example.footballmanager.model.Player;
+import org.example.footballmanager.repository.projection.PlayerView;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
-public interface PlayerRepository extends JpaRepository<Player, Long> {
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface PlayerRepository extends JpaRepository<Player, Long>, PlayerSearchRepository {
+    String VIEW = "select new org.example.footballmanager.repository.projection.PlayerView("
+            + "p.id, p.name, p.age, p.experienceMonths, p.currentTeam.id, p.version) from Player p";
+
+    @EntityGraph(attributePaths = "currentTeam")
+    @Override
+    Page<Player> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = "currentTeam")
+    List<Player> findByIdIn(Collection<Long> ids);
+
+    @Query(value = VIEW,
+            countQuery = "select count(p) from Player p")
+    Page<PlayerView> findAllViews(Pageable pageable);
+
+    @Query(VIEW + " where p.id = :id")
+    Optional<PlayerView> findViewById(Long id);
+
+    @Query(VIEW + " order by p.id")
+    List<PlayerView> findAllViewsOrderById();
+
+    @Query(VIEW + " where p.currentTeam.id = :teamId order by p.id")
+    List<PlayerView> findViewsByTeamId(Long teamId);
+
+    @Query(VIEW + " where p.id > :id order by p.id")
+    List<PlayerView> findViewsAfter(Long id, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p from Player p left join fetch p.currentTeam order by p.id")
+    Stream<Player> streamAll();
+
+    @Query("select p.currentTeam.id from Player p where p.id = :id")
+    Optional<Long> findCurrentTeamIdById(Long id);
+
+    @Query("select distinct p.currentTeam.id from Player p where p.id in :ids and p.currentTeam is not null")
+    List<Long> findCurrentTeamIdsByIdIn(Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Player p where p.id = :id")
+    Optional<Player> findByIdForUpdate(Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Player p where p.id in :ids order by p.id")
+    List<Player> findAllByIdForUpdate(Collection<Long> ids);
 }
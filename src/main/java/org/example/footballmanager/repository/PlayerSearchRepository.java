@@ -0,0 +1,11 @@
+package org.example.footballmanager.repository;
+
+import org.example.footballmanager.model.Player;
+import org.example.footballmanager.repository.projection.PlayerView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface PlayerSearchRepository {
+    Page<PlayerView> findViews(Specification<Player> specification, Pageable pageable);
+}
@@ -0,0 +1,78 @@
+package org.example.footballmanager.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.example.footballmanager.model.Player;
+import org.example.footballmanager.repository.projection.PlayerView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+/**
+ * Runs a {@link Specification} as a criteria query that selects {@link PlayerView} records
+ * directly, the same shape as the {@code PlayerRepository.VIEW} queries, instead of loading
+ * entities through {@code JpaSpecificationExecutor}.
+ */
+@RequiredArgsConstructor
+public class PlayerSearchRepositoryImpl implements PlayerSearchRepository {
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<PlayerView> findViews(Specification<Player> specification, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PlayerView> query = cb.createQuery(PlayerView.class);
+        Root<Player> root = query.from(Player.class);
+        query.select(cb.construct(PlayerView.class,
+                root.get("id"),
+                root.get("name"),
+                root.get("age"),
+                root.get("experienceMonths"),
+                root.get("currentTeam").get("id"),
+                root.get("version")));
+        Predicate predicate = toPredicate(specification, root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        Sort sort = pageable.getSort();
+        if (sort.getOrderFor("id") == null) {
+            // Ties on the requested order would otherwise make page boundaries unstable.
+            sort = sort.and(Sort.by("id"));
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        TypedQuery<PlayerView> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<PlayerView> content = typedQuery.getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(specification));
+    }
+
+    private long count(Specification<Player> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Player> root = query.from(Player.class);
+        query.select(cb.count(root));
+        Predicate predicate = toPredicate(specification, root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private Predicate toPredicate(Specification<Player> specification, Root<Player> root,
+                                  CriteriaQuery<?> query, CriteriaBuilder cb) {
+        return specification == null ? null : specification.toPredicate(root, query, cb);
+    }
+}
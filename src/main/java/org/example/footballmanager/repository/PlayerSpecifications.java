@@ -0,0 +1,75 @@
+package org.example.footballmanager.repository;
+
+import org.example.footballmanager.model.Player;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Building blocks for player searches. Each factory returns {@code null} when its filter is
+ * absent, which {@link Specification#where} and {@link Specification#and} skip, so a search
+ * only adds the predicates that were asked for. Predicates compare plain columns, so they stay
+ * usable by the player indexes.
+ */
+public final class PlayerSpecifications {
+    private static final char ESCAPE = '\\';
+
+    private PlayerSpecifications() {
+    }
+
+    public static Specification<Player> nameStartsWith(String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            return null;
+        }
+        String pattern = escapeLike(prefix) + "%";
+        return (root, query, cb) -> cb.like(root.get("name"), pattern, ESCAPE);
+    }
+
+    public static Specification<Player> ageBetween(Integer min, Integer max) {
+        return between("age", min, max);
+    }
+
+    public static Specification<Player> experienceBetween(Integer min, Integer max) {
+        return between("experienceMonths", min, max);
+    }
+
+    public static Specification<Player> inTeam(Long teamId) {
+        if (teamId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("currentTeam").get("id"), teamId);
+    }
+
+    public static Specification<Player> freeAgent(Boolean freeAgent) {
+        if (freeAgent == null) {
+            return null;
+        }
+        return (root, query, cb) -> freeAgent
+                ? cb.isNull(root.get("currentTeam"))
+                : cb.isNotNull(root.get("currentTeam"));
+    }
+
+    private static Specification<Player> between(String attribute, Integer min, Integer max) {
+        if (min == null && max == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (min == null) {
+                return cb.le(root.get(attribute), max);
+            }
+            if (max == null) {
+                return cb.ge(root.get(attribute), min);
+            }
+            return cb.between(root.get(attribute), min, max);
+        };
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 4);
+        for (char c : value.toCharArray()) {
+            if (c == '%' || c == '_' || c == ESCAPE) {
+                escaped.append(ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.footballmanager.repository;
+
+import org.example.footballmanager.model.TeamBalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface TeamBalanceSnapshotRepository extends JpaRepository<TeamBalanceSnapshot, Long> {
+    Optional<TeamBalanceSnapshot> findFirstByTeamIdAndTakenAtLessThanEqualOrderByTakenAtDesc(Long teamId, LocalDateTime at);
+}
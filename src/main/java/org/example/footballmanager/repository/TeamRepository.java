@@ -1,7 +1,58 @@
 package org.example.footballmanager.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.example.footballmanager.model.Team;
+import org.example.footballmanager.repository.projection.TeamView;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TeamRepository extends JpaRepository<Team, Long> {
-}
\ No newline at end of file
+    String VIEW = "select new org.example.footballmanager.repository.projection.TeamView("
+            + "t.id, t.name, t.accountBalance, t.commissionPercentage, t.version) from Team t";
+
+    @Query(value = VIEW,
+            countQuery = "select count(t) from Team t")
+    Page<TeamView> findAllViews(Pageable pageable);
+
+    @Query(VIEW + " order by t.id")
+    List<TeamView> findAllViewsOrderById();
+
+    @Query(VIEW + " where t.id = :id")
+    Optional<TeamView> findViewById(Long id);
+
+    @Query(VIEW + " where t.id > :id order by t.id")
+    List<TeamView> findViewsAfter(Long id, Limit limit);
+
+    @Query("select t.id from Team t order by t.id")
+    List<Long> findAllIds();
+
+    @Query("select t.id from Team t where t.id in :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from Team t order by t.id")
+    Stream<Team> streamAll();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Team t where t.id = :id")
+    Optional<Team> findByIdForUpdate(Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Team t where t.id in :ids order by t.id")
+    List<Team> findAllByIdForUpdate(Collection<Long> ids);
+}
@@ -0,0 +1,42 @@
+package org.example.footballmanager.repository;
+
+import jakarta.persistence.QueryHint;
+import org.example.footballmanager.model.TeamStats;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TeamStatsRepository extends JpaRepository<TeamStats, Long> {
+    /**
+     * Recomputes every row from the player table. Per-player market values are rounded before
+     * summing, exactly like {@code TransferFeeCalculator}, so a rebuild matches the deltas.
+     */
+    String REBUILD = "INSERT INTO team_stats (team_id, squad_size, age_sum, market_value, updated_at) "
+            + "SELECT t.id, COUNT(p.id), COALESCE(SUM(p.age), 0), "
+            + "COALESCE(SUM(ROUND(CAST(p.experience_months AS DECIMAL(30, 10)) * 100000 / p.age, 2)), 0), "
+            + "CURRENT_TIMESTAMP "
+            + "FROM team t LEFT JOIN player p ON p.team_id = t.id GROUP BY t.id";
+
+    List<TeamStats> findAllByOrderByTeamIdAsc();
+
+    @Modifying
+    @Query("update TeamStats s set s.squadSize = s.squadSize + :squadSize, s.ageSum = s.ageSum + :ageSum, "
+            + "s.marketValue = s.marketValue + :marketValue, s.updatedAt = :updatedAt where s.teamId = :teamId")
+    int applyDelta(Long teamId, int squadSize, long ageSum, BigDecimal marketValue, LocalDateTime updatedAt);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "team_stats"))
+    @Query(value = "DELETE FROM team_stats", nativeQuery = true)
+    int deleteAllRows();
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "team_stats"))
+    @Query(value = REBUILD, nativeQuery = true)
+    int rebuildAll();
+}
@@ -0,0 +1,22 @@
+package org.example.footballmanager.repository;
+
+import org.example.footballmanager.model.TransferLedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Credits and debits are summed by separate queries, so each one is a range scan on its own
+ * {@code (team, created_at)} index instead of an OR over both team columns.
+ */
+public interface TransferLedgerRepository extends JpaRepository<TransferLedgerEntry, Long> {
+    @Query("select coalesce(sum(l.totalAmount), 0) from TransferLedgerEntry l "
+            + "where l.sellingTeamId = :teamId and l.createdAt > :from and l.createdAt <= :to")
+    BigDecimal sumCredits(Long teamId, LocalDateTime from, LocalDateTime to);
+
+    @Query("select coalesce(sum(l.totalAmount), 0) from TransferLedgerEntry l "
+            + "where l.buyingTeamId = :teamId and l.createdAt > :from and l.createdAt <= :to")
+    BigDecimal sumDebits(Long teamId, LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,9 @@
+package org.example.footballmanager.repository.projection;
+
+/**
+ * Read-only player row built by a JPQL constructor expression, without hydrating a managed
+ * entity. The component order must match {@code PlayerRepository.VIEW}.
+ */
+public record PlayerView(Long id, String name, Integer age, Integer experienceMonths, Long teamId,
+                         Long version) {
+}
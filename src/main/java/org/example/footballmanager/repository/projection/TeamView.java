@@ -0,0 +1,13 @@
+package org.example.footballmanager.repository.projection;
+
+import org.example.footballmanager.model.Money;
+
+import java.math.BigDecimal;
+
+/**
+ * Read-only team row built by a JPQL constructor expression, without hydrating a managed
+ * entity or its player collection. The component order must match {@code TeamRepository.VIEW}.
+ */
+public record TeamView(Long id, String name, Money accountBalance, BigDecimal commissionPercentage,
+                       Long version) {
+}
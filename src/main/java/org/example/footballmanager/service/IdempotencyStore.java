@@ -0,0 +1,26 @@
+package org.example.footballmanager.service;
+
+/**
+ * Remembers the response of a request sent with an {@code Idempotency-Key}, so that a retry
+ * with the same key is answered from the store instead of being executed a second time.
+ * Entries expire after {@code idempotency.ttl}.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Claims {@code key} for a new request. Returns {@code null} when the caller now owns the key
+     * and must either {@link #complete} or {@link #release} it; otherwise returns what is already
+     * stored under the key, with a {@code null} response while the first request is in flight.
+     */
+    StoredRequest reserve(String key, String fingerprint);
+
+    void complete(String key, StoredResponse response);
+
+    void release(String key);
+
+    record StoredRequest(String fingerprint, StoredResponse response) {
+    }
+
+    record StoredResponse(int status, String contentType, String location, byte[] body) {
+    }
+}
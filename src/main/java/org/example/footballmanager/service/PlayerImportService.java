@@ -0,0 +1,10 @@
+package org.example.footballmanager.service;
+
+import org.example.footballmanager.dto.player.BulkImportResultDto;
+import org.example.footballmanager.dto.player.CreatePlayerRequestDto;
+
+import java.util.Iterator;
+
+public interface PlayerImportService {
+    BulkImportResultDto importPlayers(Iterator<CreatePlayerRequestDto> items);
+}
@@ -1,18 +1,35 @@
 package org.example.footballmanager.service;
 
+import org.example.footballmanager.dto.CursorPageDto;
 import org.example.footballmanager.dto.player.CreatePlayerRequestDto;
 import org.example.footballmanager.dto.player.PlayerDto;
+import org.example.footballmanager.dto.player.PlayerSearchRequestDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 public interface PlayerService {
     PlayerDto createPlayer(CreatePlayerRequestDto dto);
 
     PlayerDto getPlayerById(Long id);
 
-    PlayerDto updatePlayer(Long id, CreatePlayerRequestDto dto);
+    /**
+     * Applies {@code dto} if {@code expectedVersion} is {@code null} or equals the stored version;
+     * otherwise throws {@link org.example.footballmanager.exeption.PreconditionFailedException}.
+     */
+    PlayerDto updatePlayer(Long id, CreatePlayerRequestDto dto, Long expectedVersion);
 
     void deletePlayer(Long id);
 
     Page<PlayerDto> getAllPlayers(Pageable pageable);
+
+    List<PlayerDto> getTeamRoster(Long teamId);
+
+    Page<PlayerDto> searchPlayers(PlayerSearchRequestDto filter, Pageable pageable);
+
+    CursorPageDto<PlayerDto> getPlayersAfter(String cursor, int size);
+
+    void exportPlayers(Consumer<PlayerDto> sink);
 }
@@ -0,0 +1,11 @@
+package org.example.footballmanager.service;
+
+import org.example.footballmanager.dto.team.TeamBalanceDto;
+
+import java.time.LocalDateTime;
+
+public interface TeamBalanceService {
+    TeamBalanceDto getBalanceAt(Long teamId, LocalDateTime at);
+
+    int snapshotAll(LocalDateTime cutoff);
+}
@@ -1,10 +1,13 @@
 package org.example.footballmanager.service;
 
+import org.example.footballmanager.dto.CursorPageDto;
 import org.example.footballmanager.dto.team.CreateTeamRequestDto;
 import org.example.footballmanager.dto.team.TeamDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.function.Consumer;
+
 
 public interface TeamService {
 
@@ -12,9 +15,17 @@ public interface TeamService {
 
     TeamDto getTeamById(Long id);
 
-    TeamDto updateTeam(Long id, CreateTeamRequestDto dto);
+    /**
+     * Applies {@code dto} if {@code expectedVersion} is {@code null} or equals the stored version;
+     * otherwise throws {@link org.example.footballmanager.exeption.PreconditionFailedException}.
+     */
+    TeamDto updateTeam(Long id, CreateTeamRequestDto dto, Long expectedVersion);
 
     void deleteTeam(Long id);
 
     Page<TeamDto> getAllTeams(Pageable pageable);
+
+    CursorPageDto<TeamDto> getTeamsAfter(String cursor, int size);
+
+    void exportTeams(Consumer<TeamDto> sink);
 }
@@ -0,0 +1,21 @@
+package org.example.footballmanager.service;
+
+import org.example.footballmanager.dto.team.TeamStatsDto;
+
+import java.util.List;
+
+public interface TeamStatsService {
+    TeamStatsDto getStats(Long teamId);
+
+    List<TeamStatsDto> getAllStats();
+
+    void playerJoined(Long teamId, int age, int experienceMonths);
+
+    void playerLeft(Long teamId, int age, int experienceMonths);
+
+    void teamCreated(Long teamId);
+
+    void teamDeleted(Long teamId);
+
+    int rebuild();
+}
@@ -0,0 +1,10 @@
+package org.example.footballmanager.service;
+
+import org.example.footballmanager.dto.QueuedTransferDto;
+import org.example.footballmanager.dto.TransferRequestDto;
+
+public interface TransferQueueService {
+    QueuedTransferDto submit(TransferRequestDto dto, String idempotencyKey);
+
+    QueuedTransferDto getStatus(String id);
+}
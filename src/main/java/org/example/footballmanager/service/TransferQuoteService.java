@@ -0,0 +1,10 @@
+package org.example.footballmanager.service;
+
+import org.example.footballmanager.dto.TransferQuoteDto;
+import org.example.footballmanager.dto.TransferRequestDto;
+
+import java.util.List;
+
+public interface TransferQuoteService {
+    List<TransferQuoteDto> quote(List<TransferRequestDto> dtos);
+}
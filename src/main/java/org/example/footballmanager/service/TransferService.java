@@ -1,7 +1,12 @@
 package org.example.footballmanager.service;
 
 import org.example.footballmanager.dto.TransferRequestDto;
+import org.example.footballmanager.dto.TransferResultDto;
+
+import java.util.List;
 
 public interface TransferService {
     void performTransfer(TransferRequestDto dto);
+
+    List<TransferResultDto> performTransfers(List<TransferRequestDto> dtos);
 }
@@ -0,0 +1,8 @@
+package org.example.footballmanager.service;
+
+import org.example.footballmanager.dto.TransferSimulationRequestDto;
+import org.example.footballmanager.dto.TransferSimulationResultDto;
+
+public interface TransferSimulationService {
+    TransferSimulationResultDto simulate(TransferSimulationRequestDto request);
+}
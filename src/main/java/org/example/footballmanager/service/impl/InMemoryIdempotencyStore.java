@@ -0,0 +1,44 @@
+package org.example.footballmanager.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.footballmanager.config.IdempotencyProperties;
+import org.example.footballmanager.service.IdempotencyStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps idempotency keys in a bounded Caffeine cache. Keys are local to one instance and are
+ * lost on restart; use the {@code jdbc} store when requests are spread over several instances.
+ */
+@Service
+@ConditionalOnProperty(prefix = "idempotency", name = "store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+    private final Cache<String, StoredRequest> entries;
+
+    public InMemoryIdempotencyStore(IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this.entries = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getTtl())
+                .maximumSize(properties.getMaxEntries())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "idempotency.keys");
+    }
+
+    @Override
+    public StoredRequest reserve(String key, String fingerprint) {
+        return entries.asMap().putIfAbsent(key, new StoredRequest(fingerprint, null));
+    }
+
+    @Override
+    public void complete(String key, StoredResponse response) {
+        entries.asMap().computeIfPresent(key, (k, pending) -> new StoredRequest(pending.fingerprint(), response));
+    }
+
+    @Override
+    public void release(String key) {
+        entries.invalidate(key);
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.footballmanager.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.footballmanager.config.IdempotencyProperties;
+import org.example.footballmanager.service.IdempotencyStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Keeps idempotency keys in the {@code idempotency_key} table, so a retry is recognised by
+ * whichever instance receives it. The primary key makes {@link #reserve} atomic across
+ * instances. A reservation whose request never completed (the instance died mid-request) is
+ * taken over after {@code idempotency.in-flight-timeout}; expired rows are purged periodically.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "idempotency", name = "store", havingValue = "jdbc")
+public class JdbcIdempotencyStore implements IdempotencyStore {
+    private static final String INSERT = "INSERT INTO idempotency_key "
+            + "(idempotency_key, fingerprint, created_at, expires_at) VALUES (?, ?, ?, ?)";
+    private static final String SELECT = "SELECT fingerprint, status, content_type, location, body "
+            + "FROM idempotency_key WHERE idempotency_key = ? AND expires_at > ?";
+    private static final String DELETE_STALE = "DELETE FROM idempotency_key WHERE idempotency_key = ? "
+            + "AND (expires_at <= ? OR (status IS NULL AND created_at <= ?))";
+    private static final String COMPLETE = "UPDATE idempotency_key "
+            + "SET status = ?, content_type = ?, location = ?, body = ? WHERE idempotency_key = ?";
+    private static final String DELETE = "DELETE FROM idempotency_key WHERE idempotency_key = ?";
+    private static final String PURGE = "DELETE FROM idempotency_key WHERE expires_at <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdempotencyProperties properties;
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, IdempotencyProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public StoredRequest reserve(String key, String fingerprint) {
+        LocalDateTime now = LocalDateTime.now();
+        if (tryInsert(key, fingerprint, now)) {
+            return null;
+        }
+        List<StoredRequest> existing = jdbcTemplate.query(SELECT, (rs, rowNum) -> {
+            int status = rs.getInt("status");
+            StoredResponse response = rs.wasNull() ? null : new StoredResponse(status,
+                    rs.getString("content_type"), rs.getString("location"), rs.getBytes("body"));
+            return new StoredRequest(rs.getString("fingerprint"), response);
+        }, key, now);
+        StoredRequest stored = existing.isEmpty() ? null : existing.get(0);
+        if (stored != null && stored.response() != null) {
+            return stored;
+        }
+        jdbcTemplate.update(DELETE_STALE, key, now, now.minus(properties.getInFlightTimeout()));
+        if (tryInsert(key, fingerprint, now)) {
+            return null;
+        }
+        return stored != null ? stored : new StoredRequest(fingerprint, null);
+    }
+
+    @Override
+    public void complete(String key, StoredResponse response) {
+        jdbcTemplate.update(COMPLETE, response.status(), response.contentType(), response.location(),
+                response.body(), key);
+    }
+
+    @Override
+    public void release(String key) {
+        jdbcTemplate.update(DELETE, key);
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval:PT10M}")
+    public void purgeExpired() {
+        int purged = jdbcTemplate.update(PURGE, LocalDateTime.now());
+        if (purged > 0) {
+            log.debug("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    private boolean tryInsert(String key, String fingerprint, LocalDateTime now) {
+        try {
+            jdbcTemplate.update(INSERT, key, fingerprint, now, now.plus(properties.getTtl()));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package org.example.footballmanager.service.impl;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.footballmanager.config.TransferSettlementProperties;
+import org.example.footballmanager.dto.TransferRequestDto;
+import org.example.footballmanager.dto.TransferResultDto;
+import org.example.footballmanager.model.Player;
+import org.example.footballmanager.model.Team;
+import org.example.footballmanager.repository.PlayerRepository;
+import org.example.footballmanager.repository.TeamRepository;
+import org.example.footballmanager.service.TransferService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Settlement mode for concurrent transfers. Both teams are locked in ascending id order, first
+ * on an in-process lock stripe and then on the database row, before the regular transfer rules
+ * run. Optimistic version conflicts and lock failures are retried with exponential backoff.
+ */
+@Service
+@Timed("service.transfers")
+@Primary
+@ConditionalOnProperty(prefix = "transfer.settlement", name = "mode", havingValue = "locking")
+public class LockingTransferServiceImpl implements TransferService {
+    private final TransferServiceImpl delegate;
+    private final PlayerRepository playerRepository;
+    private final TeamRepository teamRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransferSettlementProperties properties;
+    private final TeamLockStripes lockStripes;
+    private final Timer lockWaitTimer;
+    private final Counter retryCounter;
+    private final Counter exhaustedCounter;
+
+    public LockingTransferServiceImpl(TransferServiceImpl delegate,
+                                      PlayerRepository playerRepository,
+                                      TeamRepository teamRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      TransferSettlementProperties properties,
+                                      MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.playerRepository = playerRepository;
+        this.teamRepository = teamRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.lockStripes = new TeamLockStripes(properties.getLockStripes());
+        this.lockWaitTimer = Timer.builder("transfer.settlement.lock.wait")
+                .description("Time spent waiting for in-process team lock stripes")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("transfer.settlement.retries")
+                .description("Settlements retried after a concurrency conflict")
+                .register(meterRegistry);
+        this.exhaustedCounter = Counter.builder("transfer.settlement.retries.exhausted")
+                .description("Settlements that failed after the last retry")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void performTransfer(TransferRequestDto dto) {
+        withRetry(() -> {
+            Long sellingTeamId = playerRepository.findCurrentTeamIdById(dto.getPlayerId()).orElse(null);
+            Set<Long> teamIds = sortedIds(sellingTeamId, dto.getBuyingTeamId());
+            return withStripes(teamIds, () -> transactionTemplate.execute(status -> {
+                teamIds.forEach(teamRepository::findByIdForUpdate);
+                playerRepository.findByIdForUpdate(dto.getPlayerId())
+                        .ifPresent(player -> verifySellingTeam(player, sellingTeamId));
+                delegate.performTransfer(dto);
+                return null;
+            }));
+        });
+    }
+
+    @Override
+    public List<TransferResultDto> performTransfers(List<TransferRequestDto> dtos) {
+        return withRetry(() -> {
+            Set<Long> playerIds = dtos.stream()
+                    .map(TransferRequestDto::getPlayerId)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toCollection(TreeSet::new));
+            Set<Long> teamIds = dtos.stream()
+                    .map(TransferRequestDto::getBuyingTeamId)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toCollection(TreeSet::new));
+            List<Long> sellingTeamIds = playerIds.isEmpty()
+                    ? List.of()
+                    : playerRepository.findCurrentTeamIdsByIdIn(playerIds);
+            teamIds.addAll(sellingTeamIds);
+            return withStripes(teamIds, () -> transactionTemplate.execute(status -> {
+                if (!teamIds.isEmpty()) {
+                    teamRepository.findAllByIdForUpdate(teamIds);
+                }
+                if (!playerIds.isEmpty()) {
+                    for (Player player : playerRepository.findAllByIdForUpdate(playerIds)) {
+                        if (player.getCurrentTeam() != null && !teamIds.contains(player.getCurrentTeam().getId())) {
+                            throw new OptimisticLockingFailureException(
+                                    "Player with id " + player.getId() + " changed team while waiting for locks");
+                        }
+                    }
+                }
+                return delegate.performTransfers(dtos);
+            }));
+        });
+    }
+
+    private void verifySellingTeam(Player player, Long expectedTeamId) {
+        Team currentTeam = player.getCurrentTeam();
+        Long currentTeamId = currentTeam == null ? null : currentTeam.getId();
+        if (!Objects.equals(currentTeamId, expectedTeamId)) {
+            throw new OptimisticLockingFailureException(
+                    "Player with id " + player.getId() + " changed team while waiting for locks");
+        }
+    }
+
+    private <T> T withStripes(Set<Long> teamIds, Supplier<T> action) {
+        long start = System.nanoTime();
+        List<ReentrantLock> locks = lockStripes.lockAll(teamIds);
+        lockWaitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        try {
+            return action.get();
+        } finally {
+            lockStripes.unlockAll(locks);
+        }
+    }
+
+    private <T> T withRetry(Supplier<T> action) {
+        int attempt = 1;
+        while (true) {
+            try {
+                return action.get();
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= properties.getMaxAttempts()) {
+                    exhaustedCounter.increment();
+                    throw e;
+                }
+                retryCounter.increment();
+                backoff(attempt++);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        long initial = properties.getInitialBackoff().toMillis();
+        long max = properties.getMaxBackoff().toMillis();
+        long delay = Math.min(max, initial << Math.min(attempt - 1, 20));
+        long jittered = delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+        try {
+            Thread.sleep(jittered);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off a transfer retry", e);
+        }
+    }
+
+    private static Set<Long> sortedIds(Long... ids) {
+        Set<Long> sorted = new TreeSet<>();
+        for (Long id : ids) {
+            if (id != null) {
+                sorted.add(id);
+            }
+        }
+        return sorted;
+    }
+}
@@ -0,0 +1,152 @@
+package org.example.footballmanager.service.impl;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.example.footballmanager.config.PlayerImportProperties;
+import org.example.footballmanager.dto.player.BulkImportChunkDto;
+import org.example.footballmanager.dto.player.BulkImportErrorDto;
+import org.example.footballmanager.dto.player.BulkImportResultDto;
+import org.example.footballmanager.dto.player.CreatePlayerRequestDto;
+import org.example.footballmanager.mapper.PlayerMapper;
+import org.example.footballmanager.model.Player;
+import org.example.footballmanager.repository.PlayerRepository;
+import org.example.footballmanager.repository.TeamRepository;
+import org.example.footballmanager.service.PlayerImportService;
+import org.example.footballmanager.service.TeamStatsService;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports players in fixed-size chunks, one transaction per chunk. Every team id of a chunk is
+ * resolved with a single query and the inserts are flushed as one JDBC batch, which the pooled
+ * table-based player id generator makes possible. A failing chunk does not undo earlier ones.
+ */
+@Service
+@Timed("service.players.import")
+public class PlayerImportServiceImpl implements PlayerImportService {
+    private final PlayerRepository playerRepository;
+    private final TeamRepository teamRepository;
+    private final PlayerMapper playerMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final PlayerImportProperties properties;
+    private final TeamStatsService teamStatsService;
+
+    public PlayerImportServiceImpl(PlayerRepository playerRepository,
+                                   TeamRepository teamRepository,
+                                   PlayerMapper playerMapper,
+                                   Validator validator,
+                                   PlatformTransactionManager transactionManager,
+                                   PlayerImportProperties properties,
+                                   TeamStatsService teamStatsService) {
+        this.playerRepository = playerRepository;
+        this.teamRepository = teamRepository;
+        this.playerMapper = playerMapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.teamStatsService = teamStatsService;
+    }
+
+    @Override
+    public BulkImportResultDto importPlayers(Iterator<CreatePlayerRequestDto> items) {
+        BulkImportResultDto result = new BulkImportResultDto();
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        int index = 0;
+        while (items.hasNext()) {
+            int firstIndex = index;
+            List<CreatePlayerRequestDto> chunk = new ArrayList<>(chunkSize);
+            while (items.hasNext() && chunk.size() < chunkSize) {
+                chunk.add(items.next());
+                index++;
+            }
+            BulkImportChunkDto chunkResult = importChunk(result.getChunks().size(), firstIndex, chunk);
+            result.getChunks().add(chunkResult);
+            result.setCreated(result.getCreated() + chunkResult.getCreated());
+            result.setFailed(result.getFailed() + chunkResult.getFailed());
+        }
+        return result;
+    }
+
+    private BulkImportChunkDto importChunk(int chunkNumber, int firstIndex, List<CreatePlayerRequestDto> chunk) {
+        BulkImportChunkDto chunkResult = new BulkImportChunkDto();
+        chunkResult.setChunk(chunkNumber);
+
+        Set<Long> teamIds = chunk.stream()
+                .map(CreatePlayerRequestDto::getTeamId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> existingTeamIds = teamIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(teamRepository.findExistingIds(teamIds));
+
+        List<Integer> validIndexes = new ArrayList<>();
+        List<CreatePlayerRequestDto> validItems = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            CreatePlayerRequestDto dto = chunk.get(i);
+            String error = validate(dto, existingTeamIds);
+            if (error != null) {
+                chunkResult.getErrors().add(new BulkImportErrorDto(firstIndex + i, error));
+            } else {
+                validIndexes.add(firstIndex + i);
+                validItems.add(dto);
+            }
+        }
+
+        if (!validItems.isEmpty()) {
+            try {
+                List<Long> ids = transactionTemplate.execute(status -> insert(validItems));
+                chunkResult.getCreatedIds().addAll(ids);
+            } catch (DataAccessException e) {
+                String reason = "Chunk insert failed: " + e.getMostSpecificCause().getMessage();
+                validIndexes.forEach(itemIndex -> chunkResult.getErrors().add(new BulkImportErrorDto(itemIndex, reason)));
+            }
+        }
+        chunkResult.setCreated(chunkResult.getCreatedIds().size());
+        chunkResult.setFailed(chunkResult.getErrors().size());
+        return chunkResult;
+    }
+
+    private List<Long> insert(List<CreatePlayerRequestDto> items) {
+        List<Player> players = new ArrayList<>(items.size());
+        for (CreatePlayerRequestDto dto : items) {
+            Player player = playerMapper.toEntity(dto);
+            if (dto.getTeamId() != null) {
+                player.setCurrentTeam(teamRepository.getReferenceById(dto.getTeamId()));
+                teamStatsService.playerJoined(dto.getTeamId(), dto.getAge(), dto.getExperienceMonths());
+            }
+            players.add(player);
+        }
+        return playerRepository.saveAll(players).stream()
+                .map(Player::getId)
+                .toList();
+    }
+
+    private String validate(CreatePlayerRequestDto dto, Set<Long> existingTeamIds) {
+        if (dto == null) {
+            return "Player cannot be null";
+        }
+        Set<ConstraintViolation<CreatePlayerRequestDto>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        if (dto.getTeamId() != null && !existingTeamIds.contains(dto.getTeamId())) {
+            return "Team with id " + dto.getTeamId() + " not found";
+        }
+        return null;
+    }
+}
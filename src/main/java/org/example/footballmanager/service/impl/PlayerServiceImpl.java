@@ -1,28 +1,53 @@
 package org.example.footballmanager.service.impl;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.example.footballmanager.config.CacheConfig;
+import org.example.footballmanager.dto.CursorPageDto;
 import org.example.footballmanager.dto.player.CreatePlayerRequestDto;
 import org.example.footballmanager.dto.player.PlayerDto;
+import org.example.footballmanager.dto.player.PlayerSearchRequestDto;
+import org.example.footballmanager.exeption.PreconditionFailedException;
 import org.example.footballmanager.mapper.PlayerMapper;
 import org.example.footballmanager.model.Player;
 import org.example.footballmanager.model.Team;
 import org.example.footballmanager.repository.PlayerRepository;
+import org.example.footballmanager.repository.PlayerSpecifications;
 import org.example.footballmanager.repository.TeamRepository;
+import org.example.footballmanager.repository.projection.PlayerView;
 import org.example.footballmanager.service.PlayerService;
+import org.example.footballmanager.service.TeamStatsService;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
+@Timed("service.players")
 @RequiredArgsConstructor
 public class PlayerServiceImpl implements PlayerService {
+    private static final Set<String> SEARCH_SORT_PROPERTIES = Set.of("id", "name", "age", "experienceMonths");
 
     private final PlayerRepository playerRepository;
     private final PlayerMapper playerMapper;
     private final TeamRepository teamRepository;
+    private final EntityManager entityManager;
+    private final TeamStatsService teamStatsService;
 
+    @Transactional
     @Override
     public PlayerDto createPlayer(CreatePlayerRequestDto dto) {
         validatePlayerRequest(dto);
@@ -31,47 +56,140 @@ public class PlayerServiceImpl implements PlayerService {
             Team team = teamRepository.findById(dto.getTeamId())
                     .orElseThrow(() -> new EntityNotFoundException("Team with id " + dto.getTeamId() + " not found"));
             player.setCurrentTeam(team);
+            teamStatsService.playerJoined(dto.getTeamId(), dto.getAge(), dto.getExperienceMonths());
         }
         return playerMapper.toDto(playerRepository.save(player));
     }
 
+    @Cacheable(cacheNames = CacheConfig.PLAYERS, key = "#id")
+    @Transactional
     @Override
     public PlayerDto getPlayerById(Long id) {
-        return playerRepository.findById(id)
+        return playerRepository.findViewById(id)
                 .map(playerMapper::toDto)
                 .orElseThrow(() -> new EntityNotFoundException("Player with id " + id + " not found"));
     }
 
+    @CacheEvict(cacheNames = CacheConfig.PLAYERS, key = "#id")
+    @Transactional
     @Override
-    public PlayerDto updatePlayer(Long id, CreatePlayerRequestDto dto) {
+    public PlayerDto updatePlayer(Long id, CreatePlayerRequestDto dto, Long expectedVersion) {
         Player player = playerRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Player with id " + id + " not found"));
+        if (expectedVersion != null && !expectedVersion.equals(player.getVersion())) {
+            throw new PreconditionFailedException("Player with id " + id + " is at version " + player.getVersion()
+                    + ", not " + expectedVersion);
+        }
         validatePlayerRequest(dto);
+        Long previousTeamId = player.getCurrentTeam() == null ? null : player.getCurrentTeam().getId();
+        if (previousTeamId != null) {
+            teamStatsService.playerLeft(previousTeamId, player.getAge(), player.getExperienceMonths());
+        }
         playerMapper.updatePlayerFromDto(dto, player);
         if (dto.getTeamId() != null) {
             Team team = teamRepository.findById(dto.getTeamId())
                     .orElseThrow(() -> new EntityNotFoundException("Team with id " + dto.getTeamId() + " not found"));
             player.setCurrentTeam(team);
+            teamStatsService.playerJoined(dto.getTeamId(), dto.getAge(), dto.getExperienceMonths());
         } else {
             player.setCurrentTeam(null);
         }
-        return playerMapper.toDto(playerRepository.save(player));
+        Player saved = playerRepository.save(player);
+        // Flush so the returned version, and the ETag built from it, is the one being committed
+        playerRepository.flush();
+        return playerMapper.toDto(saved);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.PLAYERS, key = "#id")
+    @Transactional
     @Override
     public void deletePlayer(Long id) {
         if (!playerRepository.existsById(id)) {
             throw new EntityNotFoundException("Player with id " + id + " not found");
         }
+        playerRepository.findViewById(id).ifPresent(player ->
+                teamStatsService.playerLeft(player.teamId(), player.age(), player.experienceMonths()));
         playerRepository.deleteById(id);
     }
 
+    @Transactional(readOnly = true)
     @Override
     public Page<PlayerDto> getAllPlayers(Pageable pageable) {
-        return playerRepository.findAll(pageable)
+        return playerRepository.findAllViews(pageable)
+                .map(playerMapper::toDto);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<PlayerDto> getTeamRoster(Long teamId) {
+        if (!teamRepository.existsById(teamId)) {
+            throw new EntityNotFoundException("Team with id " + teamId + " not found");
+        }
+        return playerRepository.findViewsByTeamId(teamId).stream()
+                .map(playerMapper::toDto)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Page<PlayerDto> searchPlayers(PlayerSearchRequestDto filter, Pageable pageable) {
+        validateSearch(filter, pageable.getSort());
+        Specification<Player> specification = Specification
+                .where(PlayerSpecifications.nameStartsWith(filter.getName()))
+                .and(PlayerSpecifications.ageBetween(filter.getMinAge(), filter.getMaxAge()))
+                .and(PlayerSpecifications.experienceBetween(filter.getMinExperienceMonths(), filter.getMaxExperienceMonths()))
+                .and(PlayerSpecifications.inTeam(filter.getTeamId()))
+                .and(PlayerSpecifications.freeAgent(filter.getFreeAgent()));
+        return playerRepository.findViews(specification, pageable)
                 .map(playerMapper::toDto);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageDto<PlayerDto> getPlayersAfter(String cursor, int size) {
+        IdCursor.validateSize(size);
+        List<PlayerView> players = playerRepository.findViewsAfter(IdCursor.decode(cursor), Limit.of(size + 1));
+        String nextCursor = null;
+        if (players.size() > size) {
+            players = players.subList(0, size);
+            nextCursor = IdCursor.encode(players.get(size - 1).id());
+        }
+        return new CursorPageDto<>(players.stream().map(playerMapper::toDto).toList(), size, nextCursor);
+    }
+
+    /**
+     * Streams every player through a forward-only cursor. Each row is detached once it has
+     * been handed to the sink, so the persistence context does not grow with the table.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public void exportPlayers(Consumer<PlayerDto> sink) {
+        try (Stream<Player> players = playerRepository.streamAll()) {
+            players.forEach(player -> {
+                sink.accept(playerMapper.toDto(player));
+                entityManager.detach(player);
+            });
+        }
+    }
+
+    private void validateSearch(PlayerSearchRequestDto filter, Sort sort) {
+        if (filter.getMinAge() != null && filter.getMaxAge() != null && filter.getMinAge() > filter.getMaxAge()) {
+            throw new IllegalArgumentException("minAge must not be greater than maxAge");
+        }
+        if (filter.getMinExperienceMonths() != null && filter.getMaxExperienceMonths() != null
+                && filter.getMinExperienceMonths() > filter.getMaxExperienceMonths()) {
+            throw new IllegalArgumentException("minExperienceMonths must not be greater than maxExperienceMonths");
+        }
+        if (filter.getTeamId() != null && Boolean.TRUE.equals(filter.getFreeAgent())) {
+            throw new IllegalArgumentException("teamId cannot be combined with freeAgent=true");
+        }
+        for (Sort.Order order : sort) {
+            if (!SEARCH_SORT_PROPERTIES.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Cannot sort players by " + order.getProperty());
+            }
+        }
+    }
+
     private void validatePlayerRequest(CreatePlayerRequestDto dto) {
         if (dto.getName() == null || dto.getName().isBlank()) {
             throw new InvalidDataAccessApiUsageException("Player name cannot be empty");
@@ -0,0 +1,83 @@
+package org.example.footballmanager.service.impl;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.example.footballmanager.dto.team.TeamBalanceDto;
+import org.example.footballmanager.model.TeamBalanceSnapshot;
+import org.example.footballmanager.repository.TeamBalanceSnapshotRepository;
+import org.example.footballmanager.repository.TeamRepository;
+import org.example.footballmanager.repository.TransferLedgerRepository;
+import org.example.footballmanager.service.TeamBalanceService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Reconstructs historical team balances from the nearest earlier snapshot plus the ledger
+ * entries recorded after it. Snapshots are written when a team is created, when its balance is
+ * edited directly, and periodically by {@link TeamBalanceSnapshotJob}, so the ledger range to
+ * scan stays short.
+ */
+@Service
+@Timed("service.teams.balance")
+@RequiredArgsConstructor
+public class TeamBalanceServiceImpl implements TeamBalanceService {
+    private final TeamRepository teamRepository;
+    private final TeamBalanceSnapshotRepository snapshotRepository;
+    private final TransferLedgerRepository transferLedgerRepository;
+
+    @Transactional(readOnly = true)
+    @Override
+    public TeamBalanceDto getBalanceAt(Long teamId, LocalDateTime at) {
+        TeamBalanceSnapshot snapshot = snapshotRepository
+                .findFirstByTeamIdAndTakenAtLessThanEqualOrderByTakenAtDesc(teamId, at)
+                .orElseThrow(() -> new EntityNotFoundException("No balance history for team with id " + teamId + " at " + at));
+
+        TeamBalanceDto dto = new TeamBalanceDto();
+        dto.setTeamId(teamId);
+        dto.setBalance(replay(snapshot, at));
+        dto.setAt(at);
+        dto.setSnapshotAt(snapshot.getTakenAt());
+        return dto;
+    }
+
+    /**
+     * Writes a snapshot at {@code cutoff} for every team whose balance moved since its latest
+     * snapshot. Returns the number of snapshots written.
+     */
+    @Transactional
+    @Override
+    public int snapshotAll(LocalDateTime cutoff) {
+        int written = 0;
+        for (Long teamId : teamRepository.findAllIds()) {
+            TeamBalanceSnapshot latest = snapshotRepository
+                    .findFirstByTeamIdAndTakenAtLessThanEqualOrderByTakenAtDesc(teamId, cutoff)
+                    .orElse(null);
+            if (latest == null || !latest.getTakenAt().isBefore(cutoff)) {
+                continue;
+            }
+            BigDecimal balance = replay(latest, cutoff);
+            if (balance.compareTo(latest.getBalance()) == 0) {
+                continue;
+            }
+            TeamBalanceSnapshot snapshot = new TeamBalanceSnapshot();
+            snapshot.setTeamId(teamId);
+            snapshot.setBalance(balance);
+            snapshot.setTakenAt(cutoff);
+            snapshotRepository.save(snapshot);
+            written++;
+        }
+        return written;
+    }
+
+    private BigDecimal replay(TeamBalanceSnapshot snapshot, LocalDateTime to) {
+        Long teamId = snapshot.getTeamId();
+        LocalDateTime from = snapshot.getTakenAt();
+        return snapshot.getBalance()
+                .add(transferLedgerRepository.sumCredits(teamId, from, to))
+                .subtract(transferLedgerRepository.sumDebits(teamId, from, to));
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.footballmanager.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.footballmanager.config.LedgerSnapshotProperties;
+import org.example.footballmanager.service.TeamBalanceService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ledger.snapshot", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TeamBalanceSnapshotJob {
+    private final TeamBalanceService teamBalanceService;
+    private final LedgerSnapshotProperties properties;
+
+    @Scheduled(fixedDelayString = "${ledger.snapshot.interval:PT1H}", initialDelayString = "${ledger.snapshot.interval:PT1H}")
+    public void takeSnapshots() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getSettleLag());
+        int written = teamBalanceService.snapshotAll(cutoff);
+        log.info("Wrote {} team balance snapshots at {}", written, cutoff);
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.footballmanager.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed pool of in-process locks shared by all teams. Stripes are always taken in ascending
+ * stripe index, so two settlements touching the same pair of teams can never deadlock.
+ */
+public class TeamLockStripes {
+    private final ReentrantLock[] stripes;
+
+    public TeamLockStripes(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Lock stripe count must be greater than 0");
+        }
+        stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public List<ReentrantLock> lockAll(Collection<Long> teamIds) {
+        TreeSet<Integer> indexes = new TreeSet<>();
+        for (Long teamId : teamIds) {
+            indexes.add(Math.floorMod(Long.hashCode(teamId), stripes.length));
+        }
+        List<ReentrantLock> acquired = new ArrayList<>(indexes.size());
+        try {
+            for (int index : indexes) {
+                ReentrantLock lock = stripes[index];
+                lock.lockInterruptibly();
+                acquired.add(lock);
+            }
+        } catch (InterruptedException e) {
+            unlockAll(acquired);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for team locks", e);
+        }
+        return acquired;
+    }
+
+    public void unlockAll(List<ReentrantLock> locks) {
+        for (int i = locks.size() - 1; i >= 0; i--) {
+            locks.get(i).unlock();
+        }
+    }
+}
@@ -1,63 +1,147 @@
 package org.example.footballmanager.service.impl;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.example.footballmanager.config.CacheConfig;
+import org.example.footballmanager.dto.CursorPageDto;
 import org.example.footballmanager.dto.team.CreateTeamRequestDto;
 import org.example.footballmanager.dto.team.TeamDto;
+import org.example.footballmanager.exeption.PreconditionFailedException;
 import org.example.footballmanager.mapper.TeamMapper;
+import org.example.footballmanager.model.Money;
 import org.example.footballmanager.model.Team;
+import org.example.footballmanager.model.TeamBalanceSnapshot;
+import org.example.footballmanager.repository.TeamBalanceSnapshotRepository;
 import org.example.footballmanager.repository.TeamRepository;
+import org.example.footballmanager.repository.projection.TeamView;
 import org.example.footballmanager.service.TeamService;
+import org.example.footballmanager.service.TeamStatsService;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
+@Timed("service.teams")
 @RequiredArgsConstructor
 public class TeamServiceImpl implements TeamService {
     private final TeamRepository teamRepository;
     private final TeamMapper teamMapper;
+    private final TeamBalanceSnapshotRepository snapshotRepository;
+    private final EntityManager entityManager;
+    private final TeamStatsService teamStatsService;
 
+    @Transactional
     @Override
     public TeamDto createTeam(CreateTeamRequestDto dto) {
         validateTeamRequest(dto);
-        Team team = teamMapper.toEntity(dto);
-        return teamMapper.toDto(teamRepository.save(team));
+        Team team = teamRepository.save(teamMapper.toEntity(dto));
+        recordSnapshot(team);
+        teamStatsService.teamCreated(team.getId());
+        return teamMapper.toDto(team);
     }
 
+    @Cacheable(cacheNames = CacheConfig.TEAMS, key = "#id")
+    @Transactional
     @Override
     public TeamDto getTeamById(Long id) {
-        return teamRepository.findById(id)
+        return teamRepository.findViewById(id)
                 .map(teamMapper::toDto)
                 .orElseThrow(() -> new EntityNotFoundException("Team with id " + id + " not found"));
     }
 
+    @CacheEvict(cacheNames = CacheConfig.TEAMS, key = "#id")
+    @Transactional
     @Override
-    public TeamDto updateTeam(Long id, CreateTeamRequestDto dto) {
+    public TeamDto updateTeam(Long id, CreateTeamRequestDto dto, Long expectedVersion) {
         Team team = teamRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Team with id " + id + " not found"));
+        if (expectedVersion != null && !expectedVersion.equals(team.getVersion())) {
+            throw new PreconditionFailedException("Team with id " + id + " is at version " + team.getVersion()
+                    + ", not " + expectedVersion);
+        }
         validateTeamRequest(dto);
+        Money previousBalance = team.getAccountBalance();
         teamMapper.updateTeamFromDto(dto, team);
-        return teamMapper.toDto(teamRepository.save(team));
+        Team saved = teamRepository.save(team);
+        if (previousBalance == null || !previousBalance.equals(saved.getAccountBalance())) {
+            recordSnapshot(saved);
+        }
+        // Flush so the returned version, and the ETag built from it, is the one being committed
+        teamRepository.flush();
+        return teamMapper.toDto(saved);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.TEAMS, key = "#id")
+    @Transactional
     @Override
     public void deleteTeam(Long id) {
         if (!teamRepository.existsById(id)) {
             throw new EntityNotFoundException("Team with id " + id + " not found");
         }
+        teamStatsService.teamDeleted(id);
         teamRepository.deleteById(id);
     }
 
+    @Transactional(readOnly = true)
     @Override
     public Page<TeamDto> getAllTeams(Pageable pageable) {
-        return teamRepository.findAll(pageable)
+        return teamRepository.findAllViews(pageable)
                 .map(teamMapper::toDto);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageDto<TeamDto> getTeamsAfter(String cursor, int size) {
+        IdCursor.validateSize(size);
+        List<TeamView> teams = teamRepository.findViewsAfter(IdCursor.decode(cursor), Limit.of(size + 1));
+        String nextCursor = null;
+        if (teams.size() > size) {
+            teams = teams.subList(0, size);
+            nextCursor = IdCursor.encode(teams.get(size - 1).id());
+        }
+        return new CursorPageDto<>(teams.stream().map(teamMapper::toDto).toList(), size, nextCursor);
+    }
+
+    /**
+     * Streams every team through a forward-only cursor. Each row is detached once it has
+     * been handed to the sink, so the persistence context does not grow with the table.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public void exportTeams(Consumer<TeamDto> sink) {
+        try (Stream<Team> teams = teamRepository.streamAll()) {
+            teams.forEach(team -> {
+                sink.accept(teamMapper.toDto(team));
+                entityManager.detach(team);
+            });
+        }
+    }
+
+    /**
+     * Balances edited outside a transfer are not in the ledger, so they start a new snapshot
+     * that later balance lookups replay from.
+     */
+    private void recordSnapshot(Team team) {
+        TeamBalanceSnapshot snapshot = new TeamBalanceSnapshot();
+        snapshot.setTeamId(team.getId());
+        snapshot.setBalance(teamMapper.toBigDecimal(team.getAccountBalance()));
+        snapshot.setTakenAt(LocalDateTime.now());
+        snapshotRepository.save(snapshot);
+    }
+
     private void validateTeamRequest(CreateTeamRequestDto dto) {
         if (dto.getName() == null || dto.getName().isBlank()) {
             throw new InvalidDataAccessApiUsageException("Team name cannot be empty");
@@ -0,0 +1,19 @@
+package org.example.footballmanager.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.example.footballmanager.service.TeamStatsService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "team.stats.rebuild", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TeamStatsRebuildJob {
+    private final TeamStatsService teamStatsService;
+
+    @Scheduled(cron = "${team.stats.rebuild.cron:0 30 3 * * *}")
+    public void rebuild() {
+        teamStatsService.rebuild();
+    }
+}
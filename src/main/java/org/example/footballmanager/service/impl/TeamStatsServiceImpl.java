@@ -0,0 +1,162 @@
+package org.example.footballmanager.service.impl;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.footballmanager.dto.team.TeamStatsDto;
+import org.example.footballmanager.model.Money;
+import org.example.footballmanager.model.TeamStats;
+import org.example.footballmanager.repository.TeamStatsRepository;
+import org.example.footballmanager.service.TeamStatsService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps {@code team_stats} in step with the player table. Player changes are buffered per team
+ * for the current transaction and written just before it commits, one atomic
+ * {@code UPDATE ... SET x = x + delta} per touched team in team id order, so a batch of
+ * transfers costs one statement per team and concurrent writers never lose an increment.
+ * Outside a transaction each change is written at once. {@link #rebuild()} recomputes all rows
+ * from the player table for repair.
+ */
+@Slf4j
+@Service
+@Timed("service.teams.stats")
+@RequiredArgsConstructor
+public class TeamStatsServiceImpl implements TeamStatsService {
+    private final TeamStatsRepository teamStatsRepository;
+    private final TransferFeeCalculator feeCalculator;
+
+    @Transactional(readOnly = true)
+    @Override
+    public TeamStatsDto getStats(Long teamId) {
+        return teamStatsRepository.findById(teamId)
+                .map(this::toDto)
+                .orElseThrow(() -> new EntityNotFoundException("Stats for team with id " + teamId + " not found"));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<TeamStatsDto> getAllStats() {
+        return teamStatsRepository.findAllByOrderByTeamIdAsc().stream()
+                .map(this::toDto)
+                .toList();
+    }
+
+    @Override
+    public void playerJoined(Long teamId, int age, int experienceMonths) {
+        record(teamId, 1, age, feeCalculator.marketValue(age, experienceMonths));
+    }
+
+    @Override
+    public void playerLeft(Long teamId, int age, int experienceMonths) {
+        record(teamId, -1, -age, feeCalculator.marketValue(age, experienceMonths).negate());
+    }
+
+    @Override
+    public void teamCreated(Long teamId) {
+        TeamStats stats = new TeamStats();
+        stats.setTeamId(teamId);
+        stats.setMarketValue(BigDecimal.ZERO);
+        stats.setUpdatedAt(LocalDateTime.now());
+        teamStatsRepository.save(stats);
+    }
+
+    @Override
+    public void teamDeleted(Long teamId) {
+        teamStatsRepository.deleteById(teamId);
+    }
+
+    @Transactional
+    @Override
+    public int rebuild() {
+        teamStatsRepository.deleteAllRows();
+        int rows = teamStatsRepository.rebuildAll();
+        log.info("Rebuilt stats for {} teams", rows);
+        return rows;
+    }
+
+    private void record(Long teamId, int squadSize, int ageSum, Money marketValue) {
+        if (teamId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(teamId, new Delta().add(squadSize, ageSum, marketValue));
+            return;
+        }
+        pendingDeltas().computeIfAbsent(teamId, id -> new Delta()).add(squadSize, ageSum, marketValue);
+    }
+
+    private Map<Long, Delta> pendingDeltas() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingDeltas pending && pending.owner() == this) {
+                return pending.deltas();
+            }
+        }
+        PendingDeltas pending = new PendingDeltas(this, new TreeMap<>());
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending.deltas();
+    }
+
+    private void write(Long teamId, Delta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        int updated = teamStatsRepository.applyDelta(teamId, delta.squadSize, delta.ageSum,
+                delta.marketValue.toBigDecimal(), LocalDateTime.now());
+        if (updated == 0) {
+            log.warn("No stats row for team {}, run a rebuild to repair team_stats", teamId);
+        }
+    }
+
+    private TeamStatsDto toDto(TeamStats stats) {
+        TeamStatsDto dto = new TeamStatsDto();
+        dto.setTeamId(stats.getTeamId());
+        dto.setSquadSize(stats.getSquadSize());
+        dto.setAverageAge(stats.getSquadSize() == 0
+                ? BigDecimal.ZERO
+                : BigDecimal.valueOf(stats.getAgeSum()).divide(BigDecimal.valueOf(stats.getSquadSize()), 2, RoundingMode.HALF_UP));
+        dto.setMarketValue(stats.getMarketValue());
+        dto.setUpdatedAt(stats.getUpdatedAt());
+        return dto;
+    }
+
+    /**
+     * The deltas of one transaction, keyed by team id; the sorted order gives concurrent
+     * transactions the same row lock order.
+     */
+    private record PendingDeltas(TeamStatsServiceImpl owner, Map<Long, Delta> deltas)
+            implements TransactionSynchronization {
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            deltas.forEach(owner::write);
+        }
+    }
+
+    private static final class Delta {
+        private int squadSize;
+        private long ageSum;
+        private Money marketValue = Money.ZERO;
+
+        private Delta add(int squadSize, long ageSum, Money marketValue) {
+            this.squadSize += squadSize;
+            this.ageSum += ageSum;
+            this.marketValue = this.marketValue.plus(marketValue);
+            return this;
+        }
+
+        private boolean isEmpty() {
+            return squadSize == 0 && ageSum == 0 && marketValue.signum() == 0;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package org.example.footballmanager.service.impl;
+
+import org.example.footballmanager.model.Money;
+
+public record TransferFee(Money transferCost, Money commission, Money totalAmount) {
+}
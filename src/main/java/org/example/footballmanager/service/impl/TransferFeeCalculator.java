@@ -0,0 +1,62 @@
+package org.example.footballmanager.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.footballmanager.config.TransferQuoteProperties;
+import org.example.footballmanager.model.Money;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+/**
+ * Prices a transfer as {@code experienceMonths * 100000 / age} plus the selling team's
+ * commission on top. The fee depends on nothing but those three values, so results are memoized
+ * per (age, experienceMonths, commission) and shared by transfers and quotes. Amounts are
+ * computed in whole cents with the same half-up rounding as the {@code BigDecimal} formula;
+ * commissions carry at most two decimals, like the column they come from.
+ */
+@Component
+public class TransferFeeCalculator {
+    private static final long BASE_FEE = 100000;
+
+    private final Cache<FeeKey, TransferFee> fees;
+
+    public TransferFeeCalculator(TransferQuoteProperties properties, MeterRegistry meterRegistry) {
+        this.fees = Caffeine.newBuilder()
+                .maximumSize(properties.getFeeCacheSize())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, fees, "transfer.fees");
+    }
+
+    public TransferFee calculate(int age, int experienceMonths, BigDecimal commissionPercentage) {
+        if (age <= 0) {
+            throw new ArithmeticException("Player age must be greater than 0 to calculate transfer cost");
+        }
+        // 5.0 and 5.00 must share an entry, so the key holds the commission in basis points
+        FeeKey key = new FeeKey(age, experienceMonths, Money.basisPoints(commissionPercentage));
+        return fees.get(key, k -> compute(age, experienceMonths, k.commissionBasisPoints()));
+    }
+
+    /**
+     * The transfer cost without commission, which is also what a player adds to a team's market value.
+     */
+    public Money marketValue(int age, int experienceMonths) {
+        return calculate(age, experienceMonths, BigDecimal.ZERO).transferCost();
+    }
+
+    TransferFee compute(int age, int experienceMonths, BigDecimal commissionPercentage) {
+        return compute(age, experienceMonths, Money.basisPoints(commissionPercentage));
+    }
+
+    private TransferFee compute(int age, int experienceMonths, long commissionBasisPoints) {
+        Money transferCost = Money.quotient(Math.multiplyExact(experienceMonths, BASE_FEE), age);
+        Money commission = transferCost.percentage(commissionBasisPoints);
+        return new TransferFee(transferCost, commission, transferCost.plus(commission));
+    }
+
+    private record FeeKey(int age, int experienceMonths, long commissionBasisPoints) {
+    }
+}
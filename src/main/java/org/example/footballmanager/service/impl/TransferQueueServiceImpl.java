@@ -0,0 +1,252 @@
+package org.example.footballmanager.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.example.footballmanager.config.TransferQueueProperties;
+import org.example.footballmanager.dto.QueuedTransferDto;
+import org.example.footballmanager.dto.TransferRequestDto;
+import org.example.footballmanager.dto.TransferResultDto;
+import org.example.footballmanager.dto.TransferStatus;
+import org.example.footballmanager.exeption.TransferQueueFullException;
+import org.example.footballmanager.service.TransferQueueService;
+import org.example.footballmanager.service.TransferService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accepts transfers into bounded in-process queues, one per partition of player ids, and
+ * settles them on a single writer thread. The writer drains the partitions round-robin into
+ * batches and settles each batch with one {@link TransferService#performTransfers} call, so a
+ * burst of requests costs one transaction per batch instead of one per request. Transfers of
+ * the same player keep their submission order, so a sale is never settled ahead of the purchase
+ * it depends on. Pending transfers are settled on shutdown;
+ * statuses live in memory only and are lost on restart.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "transfer.queue", name = "enabled", havingValue = "true")
+public class TransferQueueServiceImpl implements TransferQueueService, SmartLifecycle {
+    private final TransferService transferService;
+    private final TransferQueueProperties properties;
+    private final List<BlockingQueue<Ticket>> partitions;
+    private final Semaphore signal = new Semaphore(0);
+    private final Cache<String, QueuedTransferDto> statuses;
+    private final Cache<String, String> idempotencyKeys;
+    private final Timer latencyTimer;
+    private final Timer settlementTimer;
+    private final DistributionSummary batchSizes;
+    private volatile boolean running;
+    private Thread worker;
+    private int nextPartition;
+
+    public TransferQueueServiceImpl(TransferService transferService,
+                                    TransferQueueProperties properties,
+                                    MeterRegistry meterRegistry) {
+        this.transferService = transferService;
+        this.properties = properties;
+        this.partitions = new ArrayList<>(properties.getPartitions());
+        for (int i = 0; i < properties.getPartitions(); i++) {
+            BlockingQueue<Ticket> partition = new ArrayBlockingQueue<>(properties.getCapacity());
+            partitions.add(partition);
+            Gauge.builder("transfer.queue.depth", partition, BlockingQueue::size)
+                    .description("Transfers waiting for settlement")
+                    .tag("partition", String.valueOf(i))
+                    .register(meterRegistry);
+        }
+        this.statuses = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getStatusRetention())
+                .maximumSize(properties.getMaxStatuses())
+                .build();
+        this.idempotencyKeys = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getStatusRetention())
+                .maximumSize(properties.getMaxStatuses())
+                .build();
+        this.latencyTimer = Timer.builder("transfer.queue.latency")
+                .description("Time from acceptance to settlement of a queued transfer")
+                .register(meterRegistry);
+        this.settlementTimer = Timer.builder("transfer.queue.settlement")
+                .description("Time spent settling one batch of queued transfers")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("transfer.queue.batch.size")
+                .description("Transfers settled per batch")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public QueuedTransferDto submit(TransferRequestDto dto, String idempotencyKey) {
+        if (dto.getPlayerId() == null || dto.getBuyingTeamId() == null) {
+            throw new IllegalArgumentException("Player id and buying team id are required");
+        }
+        if (!running) {
+            throw new TransferQueueFullException("Transfer queue is not accepting transfers");
+        }
+        String id = UUID.randomUUID().toString();
+        if (idempotencyKey == null) {
+            return enqueue(id, dto);
+        }
+        // The key is published only once its transfer is queued and has a status, so a
+        // concurrent duplicate waits for the first submission and then reads its status.
+        QueuedTransferDto[] accepted = new QueuedTransferDto[1];
+        String winner = idempotencyKeys.asMap().computeIfAbsent(idempotencyKey, key -> {
+            accepted[0] = enqueue(id, dto);
+            return id;
+        });
+        return id.equals(winner) ? accepted[0] : getStatus(winner);
+    }
+
+    @Override
+    public QueuedTransferDto getStatus(String id) {
+        QueuedTransferDto status = statuses.getIfPresent(id);
+        if (status == null) {
+            throw new EntityNotFoundException("Transfer with id " + id + " not found");
+        }
+        return status;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::drainLoop, "transfer-settlement");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        Thread current;
+        synchronized (this) {
+            running = false;
+            current = worker;
+            worker = null;
+        }
+        if (current == null) {
+            return;
+        }
+        signal.release();
+        try {
+            current.join(properties.getPollInterval().toMillis() * 50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drainLoop() {
+        long pollNanos = properties.getPollInterval().toNanos();
+        while (true) {
+            try {
+                signal.tryAcquire(pollNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            // Permits are only wake-up hints: clear them before draining, so a transfer offered
+            // after this point leaves a permit behind and triggers the next round.
+            signal.drainPermits();
+            List<Ticket> batch;
+            while (!(batch = nextBatch()).isEmpty()) {
+                settle(batch);
+            }
+            if (!running) {
+                return;
+            }
+        }
+    }
+
+    private List<Ticket> nextBatch() {
+        int maxBatchSize = properties.getMaxBatchSize();
+        int share = Math.max(1, maxBatchSize / partitions.size());
+        List<Ticket> batch = new ArrayList<>();
+        boolean drained = true;
+        while (drained && batch.size() < maxBatchSize) {
+            drained = false;
+            for (int i = 0; i < partitions.size() && batch.size() < maxBatchSize; i++) {
+                BlockingQueue<Ticket> partition = partitions.get(nextPartition);
+                nextPartition = (nextPartition + 1) % partitions.size();
+                if (partition.drainTo(batch, Math.min(share, maxBatchSize - batch.size())) > 0) {
+                    drained = true;
+                }
+            }
+        }
+        return batch;
+    }
+
+    private void settle(List<Ticket> batch) {
+        List<TransferRequestDto> requests = batch.stream().map(Ticket::request).toList();
+        batchSizes.record(batch.size());
+        List<TransferResultDto> results;
+        try {
+            results = settlementTimer.record(() -> transferService.performTransfers(requests));
+        } catch (RuntimeException e) {
+            log.warn("Settlement of {} queued transfers failed", batch.size(), e);
+            String reason = "Settlement failed: " + e.getMessage();
+            batch.forEach(ticket -> complete(ticket, TransferStatus.FAILED, reason));
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            TransferResultDto result = results.get(i);
+            complete(batch.get(i), result.getStatus(), result.getReason());
+        }
+    }
+
+    private void complete(Ticket ticket, TransferStatus outcome, String reason) {
+        QueuedTransferDto status = new QueuedTransferDto();
+        status.setId(ticket.id());
+        status.setPlayerId(ticket.request().getPlayerId());
+        status.setBuyingTeamId(ticket.request().getBuyingTeamId());
+        status.setStatus(outcome);
+        status.setReason(reason);
+        status.setAcceptedAt(ticket.acceptedAt());
+        status.setSettledAt(LocalDateTime.now());
+        // record first, so a caller that sees the settled status also sees its latency sample
+        latencyTimer.record(System.nanoTime() - ticket.acceptedNanos(), TimeUnit.NANOSECONDS);
+        statuses.put(ticket.id(), status);
+    }
+
+    private QueuedTransferDto enqueue(String id, TransferRequestDto dto) {
+        QueuedTransferDto status = new QueuedTransferDto();
+        status.setId(id);
+        status.setPlayerId(dto.getPlayerId());
+        status.setBuyingTeamId(dto.getBuyingTeamId());
+        status.setStatus(TransferStatus.PENDING);
+        status.setAcceptedAt(LocalDateTime.now());
+        statuses.put(id, status);
+
+        if (!partitionOf(dto.getPlayerId()).offer(new Ticket(id, dto, status.getAcceptedAt(), System.nanoTime()))) {
+            statuses.invalidate(id);
+            throw new TransferQueueFullException("Transfer queue for player " + dto.getPlayerId() + " is full");
+        }
+        signal.release();
+        return status;
+    }
+
+    private BlockingQueue<Ticket> partitionOf(Long playerId) {
+        return partitions.get(Math.floorMod(playerId.hashCode(), partitions.size()));
+    }
+
+    private record Ticket(String id, TransferRequestDto request, LocalDateTime acceptedAt, long acceptedNanos) {
+    }
+}
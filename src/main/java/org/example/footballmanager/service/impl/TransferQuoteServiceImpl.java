@@ -0,0 +1,131 @@
+package org.example.footballmanager.service.impl;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.example.footballmanager.config.TransferQuoteProperties;
+import org.example.footballmanager.dto.TransferQuoteDto;
+import org.example.footballmanager.dto.TransferRequestDto;
+import org.example.footballmanager.model.Money;
+import org.example.footballmanager.model.Player;
+import org.example.footballmanager.model.Team;
+import org.example.footballmanager.repository.PlayerRepository;
+import org.example.footballmanager.repository.TeamRepository;
+import org.example.footballmanager.service.TransferQuoteService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Prices what-if transfers without writing anything. Players and buying teams are resolved
+ * with two IN-list queries on the request thread and copied into plain values, so the pricing
+ * itself can fan out over the common fork-join pool without touching the persistence context.
+ */
+@Service
+@Timed("service.transfers.quote")
+@RequiredArgsConstructor
+public class TransferQuoteServiceImpl implements TransferQuoteService {
+    private final PlayerRepository playerRepository;
+    private final TeamRepository teamRepository;
+    private final TransferFeeCalculator feeCalculator;
+    private final TransferQuoteProperties properties;
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<TransferQuoteDto> quote(List<TransferRequestDto> dtos) {
+        if (dtos.size() > properties.getMaxPairs()) {
+            throw new IllegalArgumentException("At most " + properties.getMaxPairs() + " transfers can be quoted at once");
+        }
+        Set<Long> playerIds = dtos.stream()
+                .map(TransferRequestDto::getPlayerId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> buyingTeamIds = dtos.stream()
+                .map(TransferRequestDto::getBuyingTeamId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Player> players = playerIds.isEmpty()
+                ? Map.of()
+                : playerRepository.findByIdIn(playerIds).stream()
+                        .collect(Collectors.toMap(Player::getId, Function.identity()));
+        Map<Long, Money> balances = new HashMap<>();
+        if (!buyingTeamIds.isEmpty()) {
+            teamRepository.findAllById(buyingTeamIds)
+                    .forEach(team -> balances.put(team.getId(), team.getAccountBalance()));
+        }
+
+        List<QuoteInput> inputs = dtos.stream()
+                .map(dto -> resolve(dto, players.get(dto.getPlayerId()), balances))
+                .toList();
+        IntStream indexes = IntStream.range(0, inputs.size());
+        if (inputs.size() >= properties.getParallelThreshold()) {
+            indexes = indexes.parallel();
+        }
+        TransferQuoteDto[] quotes = new TransferQuoteDto[inputs.size()];
+        indexes.forEach(i -> quotes[i] = price(inputs.get(i)));
+        return List.of(quotes);
+    }
+
+    private QuoteInput resolve(TransferRequestDto dto, Player player, Map<Long, Money> balances) {
+        if (dto.getPlayerId() == null || dto.getBuyingTeamId() == null) {
+            return QuoteInput.rejected(dto, "Player id and buying team id are required");
+        }
+        if (player == null) {
+            return QuoteInput.rejected(dto, "Player with id " + dto.getPlayerId() + " not found");
+        }
+        Money buyingBalance = balances.get(dto.getBuyingTeamId());
+        if (buyingBalance == null) {
+            return QuoteInput.rejected(dto, "Team with id " + dto.getBuyingTeamId() + " not found");
+        }
+        Team sellingTeam = player.getCurrentTeam();
+        if (sellingTeam == null) {
+            return QuoteInput.rejected(dto, "Player is not currently assigned to any team");
+        }
+        if (sellingTeam.getId().equals(dto.getBuyingTeamId())) {
+            return QuoteInput.rejected(dto, "Cannot transfer player to the same team");
+        }
+        return new QuoteInput(dto.getPlayerId(), dto.getBuyingTeamId(), sellingTeam.getId(), player.getAge(),
+                player.getExperienceMonths(), sellingTeam.getCommissionPercentage(), buyingBalance, null);
+    }
+
+    private TransferQuoteDto price(QuoteInput input) {
+        TransferQuoteDto quote = new TransferQuoteDto();
+        quote.setPlayerId(input.playerId());
+        quote.setBuyingTeamId(input.buyingTeamId());
+        quote.setSellingTeamId(input.sellingTeamId());
+        if (input.reason() != null) {
+            quote.setReason(input.reason());
+            return quote;
+        }
+        TransferFee fee;
+        try {
+            fee = feeCalculator.calculate(input.age(), input.experienceMonths(), input.commissionPercentage());
+        } catch (ArithmeticException e) {
+            quote.setReason(e.getMessage());
+            return quote;
+        }
+        quote.setTransferCost(fee.transferCost().toBigDecimal());
+        quote.setCommission(fee.commission().toBigDecimal());
+        quote.setTotalAmount(fee.totalAmount().toBigDecimal());
+        quote.setAffordable(!input.buyingBalance().isLessThan(fee.totalAmount()));
+        if (!quote.isAffordable()) {
+            quote.setReason("Buying team does not have enough funds. Required: " + fee.totalAmount());
+        }
+        return quote;
+    }
+
+    private record QuoteInput(Long playerId, Long buyingTeamId, Long sellingTeamId, int age, int experienceMonths,
+                              BigDecimal commissionPercentage, Money buyingBalance, String reason) {
+        static QuoteInput rejected(TransferRequestDto dto, String reason) {
+            return new QuoteInput(dto.getPlayerId(), dto.getBuyingTeamId(), null, 0, 0, null, null, reason);
+        }
+    }
+}
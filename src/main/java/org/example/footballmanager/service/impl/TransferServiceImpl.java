@@ -1,26 +1,49 @@
 package org.example.footballmanager.service.impl;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.example.footballmanager.config.CacheConfig;
 import org.example.footballmanager.dto.TransferRequestDto;
+import org.example.footballmanager.dto.TransferResultDto;
 import org.example.footballmanager.exeption.InsufficientFundsException;
+import org.example.footballmanager.model.Money;
 import org.example.footballmanager.model.Player;
 import org.example.footballmanager.model.Team;
+import org.example.footballmanager.model.TransferLedgerEntry;
 import org.example.footballmanager.repository.PlayerRepository;
 import org.example.footballmanager.repository.TeamRepository;
+import org.example.footballmanager.repository.TransferLedgerRepository;
+import org.example.footballmanager.service.TeamStatsService;
 import org.example.footballmanager.service.TransferService;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@Timed("service.transfers")
 @RequiredArgsConstructor
 public class TransferServiceImpl implements TransferService {
     private final PlayerRepository playerRepository;
     private final TeamRepository teamRepository;
+    private final TransferLedgerRepository transferLedgerRepository;
+    private final TransferFeeCalculator feeCalculator;
+    private final CacheManager cacheManager;
+    private final TeamStatsService teamStatsService;
 
     @Transactional
     @Override
@@ -31,6 +54,87 @@ public class TransferServiceImpl implements TransferService {
         Team buyingTeam = teamRepository.findById(dto.getBuyingTeamId())
                 .orElseThrow(() -> new EntityNotFoundException("Team with id " + dto.getBuyingTeamId() + " not found"));
 
+        Team sellingTeam = player.getCurrentTeam();
+        TransferLedgerEntry entry = applyTransfer(player, buyingTeam);
+
+        teamRepository.save(buyingTeam);
+        teamRepository.save(sellingTeam);
+        playerRepository.save(player);
+        transferLedgerRepository.save(entry);
+        evictCached(List.of(buyingTeam.getId(), sellingTeam.getId()), List.of(player.getId()));
+    }
+
+    /**
+     * Settles the transfers in request order inside a single transaction. Players and teams are
+     * loaded up front with IN-list queries, so a player moved by an earlier item is sold again
+     * by its new team. Items that break a transfer rule are rejected without failing the batch.
+     * Every applied item gets its own ledger entry.
+     */
+    @Transactional
+    @Override
+    public List<TransferResultDto> performTransfers(List<TransferRequestDto> dtos) {
+        Set<Long> playerIds = dtos.stream()
+                .map(TransferRequestDto::getPlayerId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Player> players = playerRepository.findByIdIn(playerIds).stream()
+                .collect(Collectors.toMap(Player::getId, Function.identity()));
+
+        Map<Long, Team> teams = new LinkedHashMap<>();
+        players.values().stream()
+                .map(Player::getCurrentTeam)
+                .filter(Objects::nonNull)
+                .forEach(team -> teams.put(team.getId(), team));
+        Set<Long> missingTeamIds = new HashSet<>();
+        for (TransferRequestDto dto : dtos) {
+            if (dto.getBuyingTeamId() != null && !teams.containsKey(dto.getBuyingTeamId())) {
+                missingTeamIds.add(dto.getBuyingTeamId());
+            }
+        }
+        if (!missingTeamIds.isEmpty()) {
+            teamRepository.findAllById(missingTeamIds).forEach(team -> teams.put(team.getId(), team));
+        }
+
+        List<TransferResultDto> results = new ArrayList<>(dtos.size());
+        Map<Long, Team> touchedTeams = new LinkedHashMap<>();
+        Map<Long, Player> touchedPlayers = new LinkedHashMap<>();
+        List<TransferLedgerEntry> ledger = new ArrayList<>();
+        for (TransferRequestDto dto : dtos) {
+            if (dto.getPlayerId() == null || dto.getBuyingTeamId() == null) {
+                results.add(TransferResultDto.rejected(dto, "Player id and buying team id are required"));
+                continue;
+            }
+            Player player = players.get(dto.getPlayerId());
+            if (player == null) {
+                results.add(TransferResultDto.rejected(dto, "Player with id " + dto.getPlayerId() + " not found"));
+                continue;
+            }
+            Team buyingTeam = teams.get(dto.getBuyingTeamId());
+            if (buyingTeam == null) {
+                results.add(TransferResultDto.rejected(dto, "Team with id " + dto.getBuyingTeamId() + " not found"));
+                continue;
+            }
+            try {
+                Team sellingTeam = player.getCurrentTeam();
+                ledger.add(applyTransfer(player, buyingTeam));
+                touchedTeams.put(buyingTeam.getId(), buyingTeam);
+                touchedTeams.put(sellingTeam.getId(), sellingTeam);
+                touchedPlayers.put(player.getId(), player);
+                results.add(TransferResultDto.applied(dto));
+            } catch (InvalidDataAccessApiUsageException | IllegalStateException
+                     | ArithmeticException | InsufficientFundsException e) {
+                results.add(TransferResultDto.rejected(dto, e.getMessage()));
+            }
+        }
+
+        teamRepository.saveAll(touchedTeams.values());
+        playerRepository.saveAll(touchedPlayers.values());
+        transferLedgerRepository.saveAll(ledger);
+        evictCached(touchedTeams.keySet(), touchedPlayers.keySet());
+        return results;
+    }
+
+    private TransferLedgerEntry applyTransfer(Player player, Team buyingTeam) {
         Team sellingTeam = player.getCurrentTeam();
         if (sellingTeam == null) {
             throw new InvalidDataAccessApiUsageException("Player is not currently assigned to any team");
@@ -40,27 +144,44 @@ public class TransferServiceImpl implements TransferService {
             throw new IllegalStateException("Cannot transfer player to the same team");
         }
 
-        if (player.getAge() <= 0) {
-            throw new ArithmeticException("Player age must be greater than 0 to calculate transfer cost");
-        }
+        TransferFee fee = feeCalculator.calculate(player.getAge(), player.getExperienceMonths(),
+                sellingTeam.getCommissionPercentage());
+        Money totalAmount = fee.totalAmount();
 
-        BigDecimal transferCost = BigDecimal.valueOf(player.getExperienceMonths())
-                .multiply(BigDecimal.valueOf(100000))
-                .divide(BigDecimal.valueOf(player.getAge()), 2, RoundingMode.HALF_UP);
-        BigDecimal commission = transferCost.multiply(sellingTeam.getCommissionPercentage())
-                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
-        BigDecimal totalAmount = transferCost.add(commission);
-
-        if (buyingTeam.getAccountBalance().compareTo(totalAmount) < 0) {
+        if (buyingTeam.getAccountBalance().isLessThan(totalAmount)) {
             throw new InsufficientFundsException("Buying team does not have enough funds. Required: " + totalAmount);
         }
 
-        buyingTeam.setAccountBalance(buyingTeam.getAccountBalance().subtract(totalAmount));
-        sellingTeam.setAccountBalance(sellingTeam.getAccountBalance().add(totalAmount));
+        TransferLedgerEntry entry = new TransferLedgerEntry();
+        entry.setPlayerId(player.getId());
+        entry.setSellingTeamId(sellingTeam.getId());
+        entry.setBuyingTeamId(buyingTeam.getId());
+        entry.setTransferCost(fee.transferCost());
+        entry.setCommission(fee.commission());
+        entry.setTotalAmount(totalAmount);
+        entry.setSellingBalanceBefore(sellingTeam.getAccountBalance());
+        entry.setBuyingBalanceBefore(buyingTeam.getAccountBalance());
+
+        buyingTeam.setAccountBalance(buyingTeam.getAccountBalance().minus(totalAmount));
+        sellingTeam.setAccountBalance(sellingTeam.getAccountBalance().plus(totalAmount));
         player.setCurrentTeam(buyingTeam);
+        teamStatsService.playerLeft(sellingTeam.getId(), player.getAge(), player.getExperienceMonths());
+        teamStatsService.playerJoined(buyingTeam.getId(), player.getAge(), player.getExperienceMonths());
 
-        teamRepository.save(buyingTeam);
-        teamRepository.save(sellingTeam);
-        playerRepository.save(player);
+        entry.setSellingBalanceAfter(sellingTeam.getAccountBalance());
+        entry.setBuyingBalanceAfter(buyingTeam.getAccountBalance());
+        entry.setCreatedAt(LocalDateTime.now());
+        return entry;
+    }
+
+    private void evictCached(Collection<Long> teamIds, Collection<Long> playerIds) {
+        Cache teams = cacheManager.getCache(CacheConfig.TEAMS);
+        if (teams != null) {
+            teamIds.forEach(teams::evict);
+        }
+        Cache players = cacheManager.getCache(CacheConfig.PLAYERS);
+        if (players != null) {
+            playerIds.forEach(players::evict);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,310 @@
+package org.example.footballmanager.service.impl;
+
+import io.micrometer.core.annotation.Timed;
+import org.example.footballmanager.config.TransferSimulationProperties;
+import org.example.footballmanager.dto.SimulatedTeamDto;
+import org.example.footballmanager.dto.SimulationRejectReason;
+import org.example.footballmanager.dto.TransferRequestDto;
+import org.example.footballmanager.dto.TransferSimulationRequestDto;
+import org.example.footballmanager.dto.TransferSimulationResultDto;
+import org.example.footballmanager.model.Money;
+import org.example.footballmanager.repository.PlayerRepository;
+import org.example.footballmanager.repository.TeamRepository;
+import org.example.footballmanager.repository.projection.PlayerView;
+import org.example.footballmanager.repository.projection.TeamView;
+import org.example.footballmanager.service.TransferSimulationService;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Runs what-if transfer seasons against an in-memory copy of the market. Teams and players are
+ * read once, in a short read-only transaction, into primitive arrays: balances in cents, one
+ * transfer cost per player priced by {@link TransferFeeCalculator}, and each player's team as an
+ * index. Every run then works on its own copy of the mutable arrays with the checks of
+ * {@link TransferServiceImpl} and nothing is persisted, so runs are independent and execute in
+ * parallel on a dedicated fork-join pool. Run {@code i} draws from a generator seeded with the
+ * request seed and {@code i}, which keeps results reproducible regardless of the parallelism.
+ */
+@Service
+@Timed("service.transfers.simulation")
+public class TransferSimulationServiceImpl implements TransferSimulationService, DisposableBean {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final SimulationRejectReason[] REASONS = SimulationRejectReason.values();
+
+    private final TeamRepository teamRepository;
+    private final PlayerRepository playerRepository;
+    private final TransferFeeCalculator feeCalculator;
+    private final TransactionTemplate transactionTemplate;
+    private final TransferSimulationProperties properties;
+    private final ForkJoinPool pool;
+
+    public TransferSimulationServiceImpl(TeamRepository teamRepository,
+                                         PlayerRepository playerRepository,
+                                         TransferFeeCalculator feeCalculator,
+                                         PlatformTransactionManager transactionManager,
+                                         TransferSimulationProperties properties) {
+        this.teamRepository = teamRepository;
+        this.playerRepository = playerRepository;
+        this.feeCalculator = feeCalculator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.properties = properties;
+        this.pool = new ForkJoinPool(properties.getParallelism() > 0
+                ? properties.getParallelism()
+                : Runtime.getRuntime().availableProcessors());
+    }
+
+    @Override
+    public TransferSimulationResultDto simulate(TransferSimulationRequestDto request) {
+        int runs = request.getRuns() != null ? request.getRuns() : properties.getDefaultRuns();
+        int transfersPerRun = request.getTransfersPerRun() != null
+                ? request.getTransfersPerRun()
+                : properties.getDefaultTransfersPerRun();
+        if (runs <= 0 || runs > properties.getMaxRuns()) {
+            throw new IllegalArgumentException("Runs must be between 1 and " + properties.getMaxRuns());
+        }
+        if (transfersPerRun < 0 || transfersPerRun > properties.getMaxTransfersPerRun()) {
+            throw new IllegalArgumentException("Transfers per run must be between 0 and "
+                    + properties.getMaxTransfersPerRun());
+        }
+        long seed = request.getSeed() != null ? request.getSeed() : new SplittableRandom().nextLong();
+        long started = System.nanoTime();
+
+        Market market = transactionTemplate.execute(status -> snapshot());
+        Candidates candidates = candidates(market, request.getCandidates());
+        if (transfersPerRun > 0 && candidates == null && (market.playerCount() == 0 || market.teamCount() == 0)) {
+            throw new IllegalArgumentException("There are no players or teams to simulate transfers with");
+        }
+
+        Run[] results = pool.submit(() -> IntStream.range(0, runs)
+                        .parallel()
+                        .mapToObj(run -> market.run(new SplittableRandom(seed + run * GOLDEN_GAMMA),
+                                transfersPerRun, candidates))
+                        .toArray(Run[]::new))
+                .join();
+
+        TransferSimulationResultDto result = new TransferSimulationResultDto();
+        result.setRuns(runs);
+        result.setTransfersPerRun(transfersPerRun);
+        result.setSeed(seed);
+        result.setApplied(Arrays.stream(results).mapToLong(Run::applied).sum());
+        result.setRejected(rejected(results));
+        result.setTeams(teams(market, results));
+        result.setElapsedMillis((System.nanoTime() - started) / 1_000_000);
+        return result;
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdownNow();
+    }
+
+    private Market snapshot() {
+        List<TeamView> teams = teamRepository.findAllViewsOrderById();
+        List<PlayerView> players = playerRepository.findAllViewsOrderById();
+
+        Market market = new Market(teams.size(), players.size());
+        for (int i = 0; i < teams.size(); i++) {
+            TeamView team = teams.get(i);
+            market.teamIds[i] = team.id();
+            market.teamIndex.put(team.id(), i);
+            market.balances[i] = team.accountBalance() != null ? team.accountBalance().cents() : 0L;
+            market.commissionBasisPoints[i] = team.commissionPercentage() != null
+                    ? Money.basisPoints(team.commissionPercentage())
+                    : 0L;
+        }
+        for (int i = 0; i < players.size(); i++) {
+            PlayerView player = players.get(i);
+            market.playerIndex.put(player.id(), i);
+            market.transferCosts[i] = transferCost(player);
+            Integer team = player.teamId() != null ? market.teamIndex.get(player.teamId()) : null;
+            market.playerTeams[i] = team != null ? team : -1;
+        }
+        return market;
+    }
+
+    private long transferCost(PlayerView player) {
+        if (player.age() == null || player.experienceMonths() == null) {
+            return Market.UNPRICED;
+        }
+        try {
+            return feeCalculator.marketValue(player.age(), player.experienceMonths()).cents();
+        } catch (ArithmeticException e) {
+            return Market.UNPRICED;
+        }
+    }
+
+    private Candidates candidates(Market market, List<TransferRequestDto> dtos) {
+        if (dtos == null || dtos.isEmpty()) {
+            return null;
+        }
+        int[] players = new int[dtos.size()];
+        int[] teams = new int[dtos.size()];
+        for (int i = 0; i < dtos.size(); i++) {
+            TransferRequestDto dto = dtos.get(i);
+            players[i] = dto != null ? market.playerIndex.getOrDefault(dto.getPlayerId(), -1) : -1;
+            teams[i] = dto != null ? market.teamIndex.getOrDefault(dto.getBuyingTeamId(), -1) : -1;
+        }
+        return new Candidates(players, teams);
+    }
+
+    private Map<SimulationRejectReason, Long> rejected(Run[] results) {
+        Map<SimulationRejectReason, Long> rejected = new EnumMap<>(SimulationRejectReason.class);
+        for (SimulationRejectReason reason : REASONS) {
+            long count = 0;
+            for (Run run : results) {
+                count += run.rejected()[reason.ordinal()];
+            }
+            rejected.put(reason, count);
+        }
+        return rejected;
+    }
+
+    private List<SimulatedTeamDto> teams(Market market, Run[] results) {
+        List<SimulatedTeamDto> teams = new ArrayList<>(market.teamCount());
+        BigInteger runs = BigInteger.valueOf(results.length);
+        for (int team = 0; team < market.teamCount(); team++) {
+            BigInteger sum = BigInteger.ZERO;
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (Run run : results) {
+                long balance = run.balances()[team];
+                sum = sum.add(BigInteger.valueOf(balance));
+                min = Math.min(min, balance);
+                max = Math.max(max, balance);
+            }
+            SimulatedTeamDto dto = new SimulatedTeamDto();
+            dto.setTeamId(market.teamIds[team]);
+            dto.setInitialBalance(Money.ofCents(market.balances[team]).toBigDecimal());
+            dto.setMeanFinalBalance(new BigDecimal(sum, 2).divide(new BigDecimal(runs), 2, RoundingMode.HALF_UP));
+            dto.setMinFinalBalance(Money.ofCents(min).toBigDecimal());
+            dto.setMaxFinalBalance(Money.ofCents(max).toBigDecimal());
+            teams.add(dto);
+        }
+        return teams;
+    }
+
+    /**
+     * Transfers to draw from, as player and team indexes; {@code -1} marks an id that is not in
+     * the snapshot.
+     */
+    private record Candidates(int[] players, int[] teams) {
+    }
+
+    private record Run(long[] balances, long applied, long[] rejected) {
+    }
+
+    /**
+     * The market as primitive arrays. Only {@code balances} and {@code playerTeams} change during
+     * a run, and every run changes its own copies of them.
+     */
+    private static final class Market {
+        static final long UNPRICED = -1L;
+
+        final long[] teamIds;
+        final long[] balances;
+        final long[] commissionBasisPoints;
+        final long[] transferCosts;
+        final int[] playerTeams;
+        final Map<Long, Integer> teamIndex;
+        final Map<Long, Integer> playerIndex;
+
+        Market(int teams, int players) {
+            this.teamIds = new long[teams];
+            this.balances = new long[teams];
+            this.commissionBasisPoints = new long[teams];
+            this.transferCosts = new long[players];
+            this.playerTeams = new int[players];
+            this.teamIndex = new HashMap<>(teams * 2);
+            this.playerIndex = new HashMap<>(players * 2);
+        }
+
+        int teamCount() {
+            return teamIds.length;
+        }
+
+        int playerCount() {
+            return transferCosts.length;
+        }
+
+        Run run(SplittableRandom random, int transfers, Candidates candidates) {
+            long[] balances = this.balances.clone();
+            int[] playerTeams = this.playerTeams.clone();
+            long[] rejected = new long[REASONS.length];
+            long applied = 0;
+            for (int i = 0; i < transfers; i++) {
+                int player;
+                int buyingTeam;
+                if (candidates != null) {
+                    int pick = random.nextInt(candidates.players().length);
+                    player = candidates.players()[pick];
+                    buyingTeam = candidates.teams()[pick];
+                } else {
+                    player = random.nextInt(playerCount());
+                    buyingTeam = random.nextInt(teamCount());
+                }
+                SimulationRejectReason reason = apply(balances, playerTeams, player, buyingTeam);
+                if (reason == null) {
+                    applied++;
+                } else {
+                    rejected[reason.ordinal()]++;
+                }
+            }
+            return new Run(balances, applied, rejected);
+        }
+
+        /**
+         * Mirrors {@code TransferServiceImpl.applyTransfer}, including the order of its checks.
+         */
+        private SimulationRejectReason apply(long[] balances, int[] playerTeams, int player, int buyingTeam) {
+            if (player < 0) {
+                return SimulationRejectReason.PLAYER_NOT_FOUND;
+            }
+            if (buyingTeam < 0) {
+                return SimulationRejectReason.TEAM_NOT_FOUND;
+            }
+            int sellingTeam = playerTeams[player];
+            if (sellingTeam < 0) {
+                return SimulationRejectReason.NO_CURRENT_TEAM;
+            }
+            if (sellingTeam == buyingTeam) {
+                return SimulationRejectReason.SAME_TEAM;
+            }
+            long transferCost = transferCosts[player];
+            if (transferCost == UNPRICED) {
+                return SimulationRejectReason.INVALID_AMOUNT;
+            }
+            long totalAmount;
+            long sellerBalance;
+            try {
+                totalAmount = Math.addExact(transferCost,
+                        Money.ofCents(transferCost).percentage(commissionBasisPoints[sellingTeam]).cents());
+                if (balances[buyingTeam] < totalAmount) {
+                    return SimulationRejectReason.INSUFFICIENT_FUNDS;
+                }
+                sellerBalance = Math.addExact(balances[sellingTeam], totalAmount);
+            } catch (ArithmeticException e) {
+                return SimulationRejectReason.INVALID_AMOUNT;
+            }
+            balances[buyingTeam] -= totalAmount;
+            balances[sellingTeam] = sellerBalance;
+            playerTeams[player] = buyingTeam;
+            return null;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package org.example.footballmanager;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.footballmanager.config.ConcurrencyLimitProperties;
+import org.example.footballmanager.controller.AdaptiveConcurrencyLimiter;
+import org.example.footballmanager.controller.ConcurrencyLimitFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdaptiveConcurrencyLimiterTest {
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(80);
+
+    private ConcurrencyLimitProperties properties;
+
+    @BeforeEach
+    public void setUp() {
+        properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(20);
+        properties.setMinLimit(4);
+        properties.setMaxLimit(100);
+    }
+
+    @Test
+    public void testTryAcquire_RefusesAboveTheLimit() {
+        properties.setInitialLimit(4);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        assertFalse(limiter.tryAcquire());
+        limiter.release(FAST);
+        assertTrue(limiter.tryAcquire());
+        assertEquals(4, limiter.getInFlight());
+    }
+
+    @Test
+    public void testRelease_LimitShrinksWhenLatencyRisesAndRecoversAfterwards() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+        runAtCapacity(limiter, FAST, 200);
+        int steady = limiter.getLimit();
+        assertTrue(steady > 20, "limit should grow while latency is stable, was " + steady);
+
+        runAtCapacity(limiter, SLOW, 100);
+        int congested = limiter.getLimit();
+        assertTrue(congested < steady / 2, "limit should shrink under rising latency, was " + congested);
+        assertTrue(congested >= properties.getMinLimit());
+
+        runAtCapacity(limiter, FAST, 300);
+        assertTrue(limiter.getLimit() > congested);
+    }
+
+    @Test
+    public void testRelease_IdleServiceDoesNotGrowTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+        for (int i = 0; i < 500; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(FAST);
+        }
+        assertEquals(20, limiter.getLimit());
+    }
+
+    @Test
+    public void testFilter_ShedsWithRetryAfterWhenAtCapacity() throws Exception {
+        properties.setInitialLimit(4);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, Set.of(), Duration.ofSeconds(2),
+                JsonMapper.builder().findAndAddModules().build(), meterRegistry);
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire();
+        }
+
+        MockHttpServletResponse shed = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/transfers"), shed, new MockFilterChain());
+        limiter.release(FAST);
+        MockHttpServletResponse admitted = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/transfers"), admitted, new MockFilterChain());
+
+        assertEquals(503, shed.getStatus());
+        assertEquals("2", shed.getHeader("Retry-After"));
+        assertEquals(200, admitted.getStatus());
+        assertEquals(3, limiter.getInFlight());
+        assertEquals(1.0, meterRegistry.get("api.requests.rejected").tag("reason", "concurrency_limit").counter().count());
+    }
+
+    @Test
+    public void testFilter_ExcludedPathsAreNeitherLimitedNorSampled() throws Exception {
+        properties.setInitialLimit(4);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, Set.of("/players/export"),
+                Duration.ofSeconds(1), JsonMapper.builder().findAndAddModules().build(), new SimpleMeterRegistry());
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire();
+        }
+
+        MockHttpServletResponse export = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("GET", "/players/export"), export, chain);
+
+        assertEquals(200, export.getStatus());
+        assertNotNull(chain.getRequest());
+        assertEquals(4, limiter.getInFlight());
+    }
+
+    /**
+     * Fills the limit, then completes requests one at a time with the given latency, admitting
+     * a replacement after each, so the limiter always sees a saturated service.
+     */
+    private void runAtCapacity(AdaptiveConcurrencyLimiter limiter, long latencyNanos, int requests) {
+        while (limiter.tryAcquire()) {
+            // fill up
+        }
+        for (int i = 0; i < requests; i++) {
+            limiter.release(latencyNanos);
+            while (limiter.tryAcquire()) {
+                // refill to the new limit
+            }
+        }
+        while (limiter.getInFlight() > 0) {
+            limiter.release(latencyNanos);
+        }
+    }
+}
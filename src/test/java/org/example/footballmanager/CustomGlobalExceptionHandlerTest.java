@@ -0,0 +1,56 @@
+package org.example.footballmanager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.example.footballmanager.exception.CustomGlobalExceptionHandler;
+import org.example.footballmanager.exeption.TransferQueueFullException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CustomGlobalExceptionHandlerTest {
+    private SimpleMeterRegistry meterRegistry;
+    private CustomGlobalExceptionHandler handler;
+    private WebRequest request;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        handler = new CustomGlobalExceptionHandler(meterRegistry);
+        request = new ServletWebRequest(new MockHttpServletRequest("GET", "/players/1"));
+    }
+
+    @Test
+    public void testHandlers_CountExceptionsByTypeAndStatus() {
+        handler.handleEntityNotFoundException(new EntityNotFoundException("missing"), request);
+        handler.handleEntityNotFoundException(new EntityNotFoundException("missing"), request);
+        ResponseEntity<Object> response =
+                handler.handleTransferQueueFull(new TransferQueueFullException("full"), request);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals(2.0, count("EntityNotFoundException", "404"));
+        assertEquals(1.0, count("TransferQueueFullException", "503"));
+    }
+
+    @Test
+    public void testFrameworkExceptions_AreCounted() throws Exception {
+        handler.handleException(new HttpRequestMethodNotSupportedException("PATCH"), request);
+
+        assertEquals(1.0, count("HttpRequestMethodNotSupportedException", "405"));
+    }
+
+    private double count(String exception, String status) {
+        return meterRegistry.get("api.exceptions")
+                .tag("exception", exception)
+                .tag("status", status)
+                .counter()
+                .count();
+    }
+}
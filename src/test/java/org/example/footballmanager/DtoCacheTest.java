@@ -0,0 +1,106 @@
+package org.example.footballmanager;
+
+import jakarta.persistence.EntityManager;
+import org.example.footballmanager.config.CacheConfig;
+import org.example.footballmanager.config.DtoCacheProperties;
+import org.example.footballmanager.dto.team.CreateTeamRequestDto;
+import org.example.footballmanager.dto.team.TeamDto;
+import org.example.footballmanager.mapper.TeamMapper;
+import org.example.footballmanager.model.Money;
+import org.example.footballmanager.model.Team;
+import org.example.footballmanager.repository.TeamBalanceSnapshotRepository;
+import org.example.footballmanager.repository.TeamRepository;
+import org.example.footballmanager.repository.projection.TeamView;
+import org.example.footballmanager.service.TeamService;
+import org.example.footballmanager.service.TeamStatsService;
+import org.example.footballmanager.service.impl.TeamServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig({CacheConfig.class, TeamServiceImpl.class})
+@EnableConfigurationProperties(DtoCacheProperties.class)
+public class DtoCacheTest {
+
+    @MockBean
+    private TeamRepository teamRepository;
+
+    @MockBean
+    private TeamMapper teamMapper;
+
+    @MockBean
+    private TeamBalanceSnapshotRepository snapshotRepository;
+
+    @MockBean
+    private EntityManager entityManager;
+
+    @MockBean
+    private TeamStatsService teamStatsService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Team team;
+
+    @BeforeEach
+    public void setUp() {
+        cacheManager.getCache(CacheConfig.TEAMS).clear();
+        team = new Team();
+        team.setId(1L);
+        TeamDto teamDto = new TeamDto();
+        teamDto.setId(1L);
+        TeamView view = new TeamView(1L, "Team A", Money.of(BigDecimal.valueOf(1000000)), BigDecimal.valueOf(5.0), 0L);
+        when(teamRepository.findViewById(1L)).thenReturn(Optional.of(view));
+        when(teamRepository.findById(1L)).thenReturn(Optional.of(team));
+        when(teamRepository.save(team)).thenReturn(team);
+        when(teamMapper.toDto(view)).thenReturn(teamDto);
+        when(teamMapper.toDto(team)).thenReturn(teamDto);
+    }
+
+    @Test
+    public void testGetTeamById_SecondReadIsServedFromCache() {
+        TeamDto first = teamService.getTeamById(1L);
+        TeamDto second = teamService.getTeamById(1L);
+
+        assertSame(first, second);
+        verify(teamRepository, times(1)).findViewById(1L);
+    }
+
+    @Test
+    public void testUpdateTeam_EvictsCachedTeam() {
+        teamService.getTeamById(1L);
+
+        CreateTeamRequestDto dto = new CreateTeamRequestDto();
+        dto.setName("Team A");
+        dto.setAccountBalance(BigDecimal.valueOf(1000000));
+        dto.setCommissionPercentage(BigDecimal.valueOf(5.0));
+        teamService.updateTeam(1L, dto, null);
+        teamService.getTeamById(1L);
+
+        // initial read and the re-read after eviction
+        verify(teamRepository, times(2)).findViewById(1L);
+    }
+
+    @Test
+    public void testDeleteTeam_EvictsCachedTeam() {
+        teamService.getTeamById(1L);
+        when(teamRepository.existsById(1L)).thenReturn(true);
+
+        teamService.deleteTeam(1L);
+
+        assertNull(cacheManager.getCache(CacheConfig.TEAMS).get(1L));
+    }
+}
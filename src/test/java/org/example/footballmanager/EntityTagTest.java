@@ -0,0 +1,102 @@
+package org.example.footballmanager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.footballmanager.controller.NdjsonWriter;
+import org.example.footballmanager.controller.PlayerController;
+import org.example.footballmanager.controller.TeamController;
+import org.example.footballmanager.dto.player.CreatePlayerRequestDto;
+import org.example.footballmanager.dto.player.PlayerDto;
+import org.example.footballmanager.dto.team.TeamDto;
+import org.example.footballmanager.exception.CustomGlobalExceptionHandler;
+import org.example.footballmanager.exeption.PreconditionFailedException;
+import org.example.footballmanager.service.PlayerImportService;
+import org.example.footballmanager.service.PlayerService;
+import org.example.footballmanager.service.TeamBalanceService;
+import org.example.footballmanager.service.TeamService;
+import org.example.footballmanager.service.TeamStatsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class EntityTagTest {
+    private static final String PLAYER_JSON = "{\"name\":\"Player 1\",\"age\":25,\"experienceMonths\":60,\"teamId\":1}";
+
+    private TeamService teamService;
+    private PlayerService playerService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setUp() {
+        teamService = mock(TeamService.class);
+        playerService = mock(PlayerService.class);
+        ObjectMapper objectMapper = new ObjectMapper();
+        NdjsonWriter ndjsonWriter = mock(NdjsonWriter.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                        new TeamController(teamService, playerService, mock(TeamBalanceService.class),
+                                mock(TeamStatsService.class), ndjsonWriter),
+                        new PlayerController(playerService, mock(PlayerImportService.class), ndjsonWriter, objectMapper))
+                .setControllerAdvice(new CustomGlobalExceptionHandler(new SimpleMeterRegistry()))
+                .build();
+    }
+
+    @Test
+    public void testGetTeam_MatchingIfNoneMatchIsNotModified() throws Exception {
+        TeamDto team = new TeamDto();
+        team.setId(1L);
+        team.setName("Team A");
+        team.setVersion(3L);
+        when(teamService.getTeamById(1L)).thenReturn(team);
+
+        mockMvc.perform(get("/teams/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(jsonPath("$.name").value("Team A"));
+        mockMvc.perform(get("/teams/1").header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/teams/1").header("If-None-Match", "\"2\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testUpdatePlayer_PassesIfMatchVersionAndReturnsNewTag() throws Exception {
+        PlayerDto updated = new PlayerDto();
+        updated.setId(1L);
+        updated.setVersion(5L);
+        when(playerService.updatePlayer(eq(1L), any(CreatePlayerRequestDto.class), eq(4L))).thenReturn(updated);
+
+        mockMvc.perform(put("/players/1").header("If-Match", "\"4\"")
+                        .contentType(MediaType.APPLICATION_JSON).content(PLAYER_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"5\""));
+    }
+
+    @Test
+    public void testUpdatePlayer_StaleVersionIsPreconditionFailed() throws Exception {
+        when(playerService.updatePlayer(eq(1L), any(CreatePlayerRequestDto.class), eq(3L)))
+                .thenThrow(new PreconditionFailedException("Player with id 1 is at version 4, not 3"));
+
+        mockMvc.perform(put("/players/1").header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON).content(PLAYER_JSON))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    public void testUpdatePlayer_WeakTagNeverMatches() throws Exception {
+        mockMvc.perform(put("/players/1").header("If-Match", "W/\"4\"")
+                        .contentType(MediaType.APPLICATION_JSON).content(PLAYER_JSON))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(playerService, never()).updatePlayer(any(), any(), any());
+    }
+}
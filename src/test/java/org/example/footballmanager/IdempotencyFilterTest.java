@@ -0,0 +1,140 @@
+package org.example.footballmanager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.footballmanager.config.IdempotencyProperties;
+import org.example.footballmanager.controller.IdempotencyFilter;
+import org.example.footballmanager.service.impl.InMemoryIdempotencyStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IdempotencyFilterTest {
+    private IdempotencyFilter filter;
+    private AtomicInteger executions;
+    private ThrowingRunnable duringExecution;
+
+    @BeforeEach
+    public void setUp() {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        filter = new IdempotencyFilter(new InMemoryIdempotencyStore(properties, new SimpleMeterRegistry()), properties, new ObjectMapper().registerModule(new JavaTimeModule()));
+        executions = new AtomicInteger();
+    }
+
+    @Test
+    public void testReplay_ReturnsStoredResponseWithoutRunningTheRequestAgain() throws Exception {
+        MockHttpServletResponse first = perform("key-1", "{\"name\":\"A\"}", HttpServletResponse.SC_CREATED);
+        MockHttpServletResponse retry = perform("key-1", "{\"name\":\"A\"}", HttpServletResponse.SC_CREATED);
+
+        assertEquals(1, executions.get());
+        assertEquals(201, retry.getStatus());
+        assertEquals(first.getContentAsString(), retry.getContentAsString());
+        assertEquals("/players/1", retry.getHeader("Location"));
+        assertEquals("true", retry.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertNull(first.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    public void testReplay_DifferentBodyIsRejected() throws Exception {
+        perform("key-1", "{\"name\":\"A\"}", HttpServletResponse.SC_CREATED);
+        MockHttpServletResponse reused = perform("key-1", "{\"name\":\"B\"}", HttpServletResponse.SC_CREATED);
+
+        assertEquals(422, reused.getStatus());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    public void testReplay_DifferentAcceptIsRejected() throws Exception {
+        perform("key-1", "application/json", "{\"name\":\"A\"}", HttpServletResponse.SC_CREATED);
+        MockHttpServletResponse reused = perform("key-1", "application/xml", "{\"name\":\"A\"}",
+                HttpServletResponse.SC_CREATED);
+
+        assertEquals(422, reused.getStatus());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    public void testReplay_RetryWhileFirstRequestRunsIsRejected() throws Exception {
+        MockHttpServletResponse[] duplicate = new MockHttpServletResponse[1];
+        duringExecution = () -> {
+            duringExecution = null;
+            duplicate[0] = perform("key-1", "{\"name\":\"A\"}", HttpServletResponse.SC_CREATED);
+        };
+
+        MockHttpServletResponse first = perform("key-1", "{\"name\":\"A\"}", HttpServletResponse.SC_CREATED);
+
+        assertEquals(201, first.getStatus());
+        assertEquals(409, duplicate[0].getStatus());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    public void testReplay_ErrorResponsesAreNotStored() throws Exception {
+        MockHttpServletResponse failed = perform("key-1", "{\"name\":\"A\"}", HttpServletResponse.SC_BAD_REQUEST);
+        MockHttpServletResponse retried = perform("key-1", "{\"name\":\"A\"}", HttpServletResponse.SC_CREATED);
+
+        assertEquals(400, failed.getStatus());
+        assertEquals(201, retried.getStatus());
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    public void testRequestsWithoutKeyPassThrough() throws Exception {
+        perform(null, "{\"name\":\"A\"}", HttpServletResponse.SC_CREATED);
+        perform(null, "{\"name\":\"A\"}", HttpServletResponse.SC_CREATED);
+
+        assertEquals(2, executions.get());
+    }
+
+    private MockHttpServletResponse perform(String key, String body, int status) throws Exception {
+        return perform(key, null, body, status);
+    }
+
+    private MockHttpServletResponse perform(String key, String accept, String body, int status) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/players");
+        request.setContentType("application/json");
+        if (accept != null) {
+            request.addHeader("Accept", accept);
+        }
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.HEADER, key);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+                String received = new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+                int execution = executions.incrementAndGet();
+                if (duringExecution != null) {
+                    try {
+                        duringExecution.run();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+                res.setStatus(status);
+                res.setHeader("Location", "/players/" + execution);
+                res.setContentType("application/json");
+                res.getWriter().write("{\"id\":" + execution + ",\"received\":" + received + "}");
+            }
+        }));
+        return response;
+    }
+
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.footballmanager;
+
+import org.example.footballmanager.config.IdempotencyProperties;
+import org.example.footballmanager.service.IdempotencyStore.StoredRequest;
+import org.example.footballmanager.service.IdempotencyStore.StoredResponse;
+import org.example.footballmanager.service.impl.JdbcIdempotencyStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+public class JdbcIdempotencyStoreTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private IdempotencyProperties properties;
+    private JdbcIdempotencyStore store;
+
+    @BeforeEach
+    public void setUp() {
+        properties = new IdempotencyProperties();
+        store = new JdbcIdempotencyStore(jdbcTemplate, properties);
+    }
+
+    @Test
+    public void testReserve_ReturnsCompletedResponse() {
+        assertNull(store.reserve("key-1", "fp"));
+        assertNull(store.reserve("key-1", "fp").response());
+
+        store.complete("key-1", new StoredResponse(201, "application/json", "/players/7", "{\"id\":7}".getBytes()));
+        StoredRequest stored = store.reserve("key-1", "fp");
+
+        assertEquals("fp", stored.fingerprint());
+        assertEquals(201, stored.response().status());
+        assertEquals("/players/7", stored.response().location());
+        assertArrayEquals("{\"id\":7}".getBytes(), stored.response().body());
+    }
+
+    @Test
+    public void testComplete_StoresResponsesLargerThanABlob() {
+        byte[] body = new byte[256 * 1024];
+        Arrays.fill(body, (byte) 'x');
+        assertNull(store.reserve("key-1", "fp"));
+
+        store.complete("key-1", new StoredResponse(200, "application/json", null, body));
+
+        assertArrayEquals(body, store.reserve("key-1", "fp").response().body());
+    }
+
+    @Test
+    public void testReserve_ReleasedAndExpiredKeysCanBeReused() {
+        assertNull(store.reserve("key-1", "fp"));
+        store.release("key-1");
+        assertNull(store.reserve("key-1", "other"));
+
+        store.complete("key-1", new StoredResponse(200, null, null, new byte[0]));
+        jdbcTemplate.update("UPDATE idempotency_key SET expires_at = ? WHERE idempotency_key = ?",
+                LocalDateTime.now().minusSeconds(1), "key-1");
+
+        assertNull(store.reserve("key-1", "fp"));
+    }
+
+    @Test
+    public void testReserve_AbandonedReservationIsTakenOverAfterTimeout() {
+        properties.setInFlightTimeout(Duration.ZERO);
+        assertNull(store.reserve("key-1", "fp"));
+
+        assertNull(store.reserve("key-1", "fp"));
+
+        properties.setInFlightTimeout(Duration.ofMinutes(1));
+        assertNotNull(store.reserve("key-1", "fp"));
+        store.purgeExpired();
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM idempotency_key", Integer.class));
+    }
+}
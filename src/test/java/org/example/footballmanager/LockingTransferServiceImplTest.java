@@ -0,0 +1,130 @@
+package org.example.footballmanager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.footballmanager.config.TransferSettlementProperties;
+import org.example.footballmanager.dto.TransferRequestDto;
+import org.example.footballmanager.model.Player;
+import org.example.footballmanager.model.Team;
+import org.example.footballmanager.repository.PlayerRepository;
+import org.example.footballmanager.repository.TeamRepository;
+import org.example.footballmanager.service.impl.LockingTransferServiceImpl;
+import org.example.footballmanager.service.impl.TransferServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class LockingTransferServiceImplTest {
+
+    @Mock
+    private TransferServiceImpl delegate;
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private LockingTransferServiceImpl transferService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+
+        TransferSettlementProperties properties = new TransferSettlementProperties();
+        properties.setMaxAttempts(3);
+        properties.setInitialBackoff(Duration.ofMillis(1));
+        properties.setMaxBackoff(Duration.ofMillis(2));
+        meterRegistry = new SimpleMeterRegistry();
+        transferService = new LockingTransferServiceImpl(delegate, playerRepository, teamRepository,
+                transactionManager, properties, meterRegistry);
+    }
+
+    @Test
+    public void testPerformTransfer_LocksTeamsInAscendingIdOrder() {
+        Player player = playerOfTeam(5L);
+        when(playerRepository.findCurrentTeamIdById(1L)).thenReturn(Optional.of(5L));
+        when(playerRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(player));
+
+        transferService.performTransfer(transfer(1L, 2L));
+
+        InOrder inOrder = inOrder(teamRepository, playerRepository, delegate);
+        inOrder.verify(teamRepository).findByIdForUpdate(2L);
+        inOrder.verify(teamRepository).findByIdForUpdate(5L);
+        inOrder.verify(playerRepository).findByIdForUpdate(1L);
+        inOrder.verify(delegate).performTransfer(any());
+        assertEquals(1, meterRegistry.get("transfer.settlement.lock.wait").timer().count());
+    }
+
+    @Test
+    public void testPerformTransfer_RetriesOptimisticLockConflict() {
+        Player player = playerOfTeam(1L);
+        when(playerRepository.findCurrentTeamIdById(1L)).thenReturn(Optional.of(1L));
+        when(playerRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(player));
+        doThrow(new ObjectOptimisticLockingFailureException(Team.class, 1L))
+                .doNothing()
+                .when(delegate).performTransfer(any());
+
+        transferService.performTransfer(transfer(1L, 2L));
+
+        verify(delegate, times(2)).performTransfer(any());
+        assertEquals(1.0, meterRegistry.get("transfer.settlement.retries").counter().count());
+    }
+
+    @Test
+    public void testPerformTransfer_RetriesWhenPlayerChangedTeam() {
+        when(playerRepository.findCurrentTeamIdById(1L)).thenReturn(Optional.of(1L), Optional.of(3L));
+        when(playerRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(playerOfTeam(3L)));
+
+        transferService.performTransfer(transfer(1L, 2L));
+
+        verify(delegate, times(1)).performTransfer(any());
+        verify(teamRepository, times(1)).findByIdForUpdate(3L);
+        assertEquals(1.0, meterRegistry.get("transfer.settlement.retries").counter().count());
+    }
+
+    @Test
+    public void testPerformTransfer_GivesUpAfterMaxAttempts() {
+        when(playerRepository.findCurrentTeamIdById(1L)).thenReturn(Optional.of(1L));
+        when(playerRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(playerOfTeam(1L)));
+        doThrow(new ObjectOptimisticLockingFailureException(Team.class, 1L))
+                .when(delegate).performTransfer(any());
+
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> transferService.performTransfer(transfer(1L, 2L)));
+        verify(delegate, times(3)).performTransfer(any());
+        assertEquals(1.0, meterRegistry.get("transfer.settlement.retries.exhausted").counter().count());
+    }
+
+    private Player playerOfTeam(Long teamId) {
+        Team team = new Team();
+        team.setId(teamId);
+        Player player = new Player();
+        player.setId(1L);
+        player.setCurrentTeam(team);
+        return player;
+    }
+
+    private TransferRequestDto transfer(Long playerId, Long buyingTeamId) {
+        TransferRequestDto dto = new TransferRequestDto();
+        dto.setPlayerId(playerId);
+        dto.setBuyingTeamId(buyingTeamId);
+        return dto;
+    }
+}
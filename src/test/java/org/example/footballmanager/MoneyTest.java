@@ -0,0 +1,128 @@
+package org.example.footballmanager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.footballmanager.config.TransferQuoteProperties;
+import org.example.footballmanager.model.Money;
+import org.example.footballmanager.model.MoneyConverter;
+import org.example.footballmanager.service.impl.TransferFee;
+import org.example.footballmanager.service.impl.TransferFeeCalculator;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks {@link Money} arithmetic against the {@code BigDecimal} code it replaced, over seeded
+ * random inputs plus the rounding and overflow edges.
+ */
+public class MoneyTest {
+    private static final int SAMPLES = 200_000;
+    private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+    private static final BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+
+    @Test
+    public void testTransferFee_MatchesBigDecimalFormula() {
+        TransferFeeCalculator calculator = new TransferFeeCalculator(new TransferQuoteProperties(), new SimpleMeterRegistry());
+        Random random = new Random(20240611L);
+        for (int i = 0; i < SAMPLES; i++) {
+            int age = 1 + random.nextInt(60);
+            int experienceMonths = random.nextBoolean() ? random.nextInt(600) : random.nextInt(Integer.MAX_VALUE);
+            BigDecimal commission = BigDecimal.valueOf(random.nextInt(1001), 2);
+
+            BigDecimal[] expected = referenceFee(age, experienceMonths, commission);
+            if (!fitsInCents(expected[0].movePointRight(2).multiply(commission.movePointRight(2)))) {
+                assertThrows(ArithmeticException.class, () -> calculator.calculate(age, experienceMonths, commission));
+                continue;
+            }
+            TransferFee fee = calculator.calculate(age, experienceMonths, commission);
+            String inputs = age + "/" + experienceMonths + "/" + commission;
+            assertEquals(expected[0], fee.transferCost().toBigDecimal(), inputs);
+            assertEquals(expected[1], fee.commission().toBigDecimal(), inputs);
+            assertEquals(expected[2], fee.totalAmount().toBigDecimal(), inputs);
+        }
+    }
+
+    @Test
+    public void testArithmetic_MatchesBigDecimal() {
+        Random random = new Random(42L);
+        for (int i = 0; i < SAMPLES; i++) {
+            long a = randomCents(random);
+            long b = randomCents(random);
+            long basisPoints = random.nextInt(20001) - 10000;
+            BigDecimal x = BigDecimal.valueOf(a, 2);
+            BigDecimal y = BigDecimal.valueOf(b, 2);
+
+            assertEquals(x.add(y), Money.ofCents(a).plus(Money.ofCents(b)).toBigDecimal());
+            assertEquals(x.subtract(y), Money.ofCents(a).minus(Money.ofCents(b)).toBigDecimal());
+            assertEquals(Integer.signum(x.compareTo(y)), Integer.signum(Money.ofCents(a).compareTo(Money.ofCents(b))));
+            if (fitsInCents(BigDecimal.valueOf(a).multiply(BigDecimal.valueOf(basisPoints)))) {
+                assertEquals(x.multiply(BigDecimal.valueOf(basisPoints, 2)).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP),
+                        Money.ofCents(a).percentage(basisPoints).toBigDecimal(), a + " * " + basisPoints);
+            } else {
+                assertThrows(ArithmeticException.class, () -> Money.ofCents(a).percentage(basisPoints));
+            }
+        }
+    }
+
+    @Test
+    public void testRounding_HalfUpAwayFromZero() {
+        assertEquals(new BigDecimal("0.01"), Money.quotient(1, 200).toBigDecimal());
+        assertEquals(new BigDecimal("-0.01"), Money.quotient(-1, 200).toBigDecimal());
+        assertEquals(new BigDecimal("0.00"), Money.quotient(1, 201).toBigDecimal());
+        assertEquals(new BigDecimal("0.67"), Money.quotient(2, 3).toBigDecimal());
+        assertEquals(new BigDecimal("1.01"), Money.of(new BigDecimal("1.005")).toBigDecimal());
+        assertEquals(new BigDecimal("-1.01"), Money.of(new BigDecimal("-1.005")).toBigDecimal());
+        assertEquals(Money.of(new BigDecimal("5.0")), Money.of(new BigDecimal("5.00")));
+    }
+
+    @Test
+    public void testOverflow_Throws() {
+        Money max = Money.ofCents(Long.MAX_VALUE);
+
+        assertThrows(ArithmeticException.class, () -> max.plus(Money.ofCents(1)));
+        assertThrows(ArithmeticException.class, () -> Money.ofCents(Long.MIN_VALUE).minus(Money.ofCents(1)));
+        assertThrows(ArithmeticException.class, () -> Money.ofCents(Long.MIN_VALUE).negate());
+        assertThrows(ArithmeticException.class, () -> max.percentage(200));
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("99999999999999999.99")));
+        assertEquals(max, Money.of(max.toBigDecimal()));
+    }
+
+    @Test
+    public void testConverter_RoundTripsDecimalColumn() {
+        MoneyConverter converter = new MoneyConverter();
+        BigDecimal column = new BigDecimal("1748000.35");
+
+        Money money = converter.convertToEntityAttribute(column);
+
+        assertEquals(174800035L, money.cents());
+        assertEquals(column, converter.convertToDatabaseColumn(money));
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+
+    /**
+     * The fee formula as it was written with {@code BigDecimal}: cost, commission, total.
+     */
+    private static BigDecimal[] referenceFee(int age, int experienceMonths, BigDecimal commissionPercentage) {
+        BigDecimal transferCost = BigDecimal.valueOf(experienceMonths)
+                .multiply(BigDecimal.valueOf(100000))
+                .divide(BigDecimal.valueOf(age), 2, RoundingMode.HALF_UP);
+        BigDecimal commission = transferCost.multiply(commissionPercentage)
+                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+        return new BigDecimal[]{transferCost, commission, transferCost.add(commission)};
+    }
+
+    private static boolean fitsInCents(BigDecimal value) {
+        return value.compareTo(LONG_MAX) <= 0 && value.compareTo(LONG_MIN) >= 0;
+    }
+
+    private static long randomCents(Random random) {
+        // Mostly realistic balances, with some values large enough to exercise the exact checks
+        return random.nextInt(10) == 0
+                ? random.nextLong() / 4
+                : random.nextLong(-1_000_000_000_000L, 1_000_000_000_000L);
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.footballmanager;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.example.footballmanager.config.PlayerImportProperties;
+import org.example.footballmanager.dto.player.BulkImportResultDto;
+import org.example.footballmanager.dto.player.CreatePlayerRequestDto;
+import org.example.footballmanager.mapper.PlayerMapper;
+import org.example.footballmanager.model.Player;
+import org.example.footballmanager.model.Team;
+import org.example.footballmanager.repository.PlayerRepository;
+import org.example.footballmanager.repository.TeamRepository;
+import org.example.footballmanager.service.TeamStatsService;
+import org.example.footballmanager.service.impl.PlayerImportServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class PlayerImportServiceImplTest {
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private PlayerMapper playerMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TeamStatsService teamStatsService;
+
+    private ValidatorFactory validatorFactory;
+
+    private PlayerImportServiceImpl importService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        when(playerMapper.toEntity(any())).thenAnswer(invocation -> new Player());
+        when(teamRepository.getReferenceById(anyLong())).thenAnswer(invocation -> new Team());
+        AtomicLong ids = new AtomicLong();
+        when(playerRepository.saveAll(anyIterable())).thenAnswer(invocation -> {
+            List<Player> saved = new ArrayList<>();
+            for (Player player : invocation.<Iterable<Player>>getArgument(0)) {
+                player.setId(ids.incrementAndGet());
+                saved.add(player);
+            }
+            return saved;
+        });
+
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        PlayerImportProperties properties = new PlayerImportProperties();
+        properties.setChunkSize(2);
+        importService = new PlayerImportServiceImpl(playerRepository, teamRepository, playerMapper,
+                validatorFactory.getValidator(), transactionManager, properties, teamStatsService);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    public void testImportPlayers_ChunksAndReportsInvalidItems() {
+        when(teamRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L));
+
+        BulkImportResultDto result = importService.importPlayers(List.of(
+                player("Player 1", 20, 1L),
+                player("", 20, 1L),
+                player("Player 3", 17, null),
+                player("Player 4", 25, 999L),
+                player("Player 5", 30, 1L)
+        ).iterator());
+
+        assertEquals(3, result.getChunks().size());
+        assertEquals(2, result.getCreated());
+        assertEquals(3, result.getFailed());
+        assertEquals(1, result.getChunks().get(0).getCreated());
+        assertEquals(1, result.getChunks().get(0).getErrors().get(0).getIndex());
+        assertEquals(2, result.getChunks().get(1).getFailed());
+        assertEquals("Team with id 999 not found", result.getChunks().get(1).getErrors().get(1).getReason());
+        assertEquals(List.of(2L), result.getChunks().get(2).getCreatedIds());
+        verify(teamRepository, times(3)).findExistingIds(anyCollection());
+        verify(playerRepository, times(2)).saveAll(anyIterable());
+    }
+
+    @Test
+    public void testImportPlayers_FailedChunkDoesNotStopLaterChunks() {
+        when(teamRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L));
+        when(playerRepository.saveAll(anyIterable()))
+                .thenThrow(new DataIntegrityViolationException("duplicate"))
+                .thenAnswer(invocation -> List.of(withId(10L)));
+
+        BulkImportResultDto result = importService.importPlayers(List.of(
+                player("Player 1", 20, 1L),
+                player("Player 2", 20, 1L),
+                player("Player 3", 20, 1L)
+        ).iterator());
+
+        assertEquals(1, result.getCreated());
+        assertEquals(2, result.getChunks().get(0).getFailed());
+        assertEquals(List.of(10L), result.getChunks().get(1).getCreatedIds());
+    }
+
+    private CreatePlayerRequestDto player(String name, int age, Long teamId) {
+        CreatePlayerRequestDto dto = new CreatePlayerRequestDto();
+        dto.setName(name);
+        dto.setAge(age);
+        dto.setExperienceMonths(12);
+        dto.setTeamId(teamId);
+        return dto;
+    }
+
+    private Player withId(Long id) {
+        Player player = new Player();
+        player.setId(id);
+        return player;
+    }
+}
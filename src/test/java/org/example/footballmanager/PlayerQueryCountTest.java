@@ -0,0 +1,76 @@
+package org.example.footballmanager;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.footballmanager.dto.player.PlayerDto;
+import org.example.footballmanager.mapper.impl.PlayerMapperImpl;
+import org.example.footballmanager.service.TeamStatsService;
+import org.example.footballmanager.service.impl.PlayerServiceImpl;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Guards the player listings against N+1 selects by counting the JDBC statements Hibernate
+ * prepares. Runs against the seeded changelog data: four teams with five players each.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({PlayerServiceImpl.class, PlayerMapperImpl.class})
+public class PlayerQueryCountTest {
+
+    @Autowired
+    private PlayerServiceImpl playerService;
+
+    @MockBean
+    private TeamStatsService teamStatsService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void testGetAllPlayers_FetchesTeamsInSameStatement() {
+        Page<PlayerDto> page = playerService.getAllPlayers(PageRequest.of(0, 50));
+
+        assertEquals(20, page.getContent().size());
+        assertTrue(page.getContent().stream().allMatch(player -> player.getTeamId() != null));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testGetTeamRoster_UsesTwoStatements() {
+        List<PlayerDto> roster = playerService.getTeamRoster(2L);
+
+        assertEquals(5, roster.size());
+        assertTrue(roster.stream().allMatch(player -> player.getTeamId().equals(2L)));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testGetPlayersAfter_DoesNotLoadTeams() {
+        playerService.getPlayersAfter("", 10);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
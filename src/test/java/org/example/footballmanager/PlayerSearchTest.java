@@ -0,0 +1,134 @@
+package org.example.footballmanager;
+
+import org.example.footballmanager.dto.player.PlayerDto;
+import org.example.footballmanager.dto.player.PlayerSearchRequestDto;
+import org.example.footballmanager.mapper.impl.PlayerMapperImpl;
+import org.example.footballmanager.model.Player;
+import org.example.footballmanager.repository.PlayerRepository;
+import org.example.footballmanager.service.TeamStatsService;
+import org.example.footballmanager.service.impl.PlayerServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs player searches against the seeded changelog data (four teams with five players each)
+ * plus a few free agents added inside the rolled-back test transaction.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({PlayerServiceImpl.class, PlayerMapperImpl.class})
+public class PlayerSearchTest {
+
+    @Autowired
+    private PlayerServiceImpl playerService;
+
+    @MockBean
+    private TeamStatsService teamStatsService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        playerRepository.saveAll(List.of(
+                freeAgent("Free Young", 19, 30),
+                freeAgent("Free Rookie", 20, 6),
+                freeAgent("Free Veteran", 31, 120)));
+        playerRepository.flush();
+    }
+
+    @Test
+    public void testSearch_YoungExperiencedFreeAgents() {
+        PlayerSearchRequestDto filter = new PlayerSearchRequestDto();
+        filter.setFreeAgent(true);
+        filter.setMinAge(18);
+        filter.setMaxAge(23);
+        filter.setMinExperienceMonths(24);
+
+        Page<PlayerDto> page = playerService.searchPlayers(filter, PageRequest.of(0, 20));
+
+        assertEquals(List.of("Free Young"), names(page));
+        assertNull(page.getContent().get(0).getTeamId());
+    }
+
+    @Test
+    public void testSearch_NamePrefixWithinTeam() {
+        PlayerSearchRequestDto filter = new PlayerSearchRequestDto();
+        filter.setName("Player A");
+        filter.setTeamId(1L);
+        filter.setMaxAge(24);
+
+        Page<PlayerDto> page = playerService.searchPlayers(filter, PageRequest.of(0, 20, Sort.by("age")));
+
+        assertEquals(List.of("Player A1", "Player A4"), names(page));
+    }
+
+    @Test
+    public void testSearch_LikeWildcardsInPrefixAreLiteral() {
+        PlayerSearchRequestDto filter = new PlayerSearchRequestDto();
+        filter.setName("Player%");
+
+        assertEquals(0, playerService.searchPlayers(filter, PageRequest.of(0, 20)).getTotalElements());
+    }
+
+    @Test
+    public void testSearch_PagesAndCountsMatches() {
+        PlayerSearchRequestDto filter = new PlayerSearchRequestDto();
+        filter.setFreeAgent(false);
+
+        Page<PlayerDto> page = playerService.searchPlayers(filter, PageRequest.of(1, 8, Sort.by("id")));
+
+        assertEquals(20, page.getTotalElements());
+        assertEquals(8, page.getContent().size());
+        assertEquals(9L, page.getContent().get(0).getId());
+    }
+
+    @Test
+    public void testSearch_RejectsUnknownSortProperty() {
+        assertThrows(IllegalArgumentException.class,
+                () -> playerService.searchPlayers(new PlayerSearchRequestDto(), PageRequest.of(0, 20, Sort.by("currentTeam"))));
+    }
+
+    @Test
+    public void testSearchIndexes_AreUsedForRangeAndPrefixFilters() {
+        String agePlan = plan("SELECT id FROM player WHERE age BETWEEN 18 AND 23 AND experience_months >= 24");
+        String namePlan = plan("SELECT id FROM player WHERE name LIKE 'Player A%'");
+
+        assertTrue(agePlan.contains("IDX_PLAYER_AGE_EXPERIENCE"), agePlan);
+        assertTrue(namePlan.contains("IDX_PLAYER_NAME"), namePlan);
+    }
+
+    private String plan(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+
+    private List<String> names(Page<PlayerDto> page) {
+        return page.getContent().stream().map(PlayerDto::getName).toList();
+    }
+
+    private Player freeAgent(String name, int age, int experienceMonths) {
+        Player player = new Player();
+        player.setName(name);
+        player.setAge(age);
+        player.setExperienceMonths(experienceMonths);
+        return player;
+    }
+}
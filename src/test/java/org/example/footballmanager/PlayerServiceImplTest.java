@@ -1,21 +1,30 @@
 package org.example.footballmanager;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import org.example.footballmanager.dto.CursorPageDto;
 import org.example.footballmanager.dto.player.CreatePlayerRequestDto;
 import org.example.footballmanager.dto.player.PlayerDto;
+import org.example.footballmanager.exeption.PreconditionFailedException;
 import org.example.footballmanager.mapper.PlayerMapper;
 import org.example.footballmanager.model.Player;
 import org.example.footballmanager.model.Team;
 import org.example.footballmanager.repository.PlayerRepository;
 import org.example.footballmanager.repository.TeamRepository;
+import org.example.footballmanager.repository.projection.PlayerView;
+import org.example.footballmanager.service.TeamStatsService;
 import org.example.footballmanager.service.impl.PlayerServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -31,6 +40,12 @@ public class PlayerServiceImplTest {
     @Mock
     private TeamRepository teamRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TeamStatsService teamStatsService;
+
     @InjectMocks
     private PlayerServiceImpl playerService;
 
@@ -100,16 +115,14 @@ public class PlayerServiceImplTest {
     @Test
     public void testGetPlayerById_ExistingId() {
         Long id = 1L;
-        Player player = new Player();
-        player.setId(id);
-        player.setName("Player 1");
+        PlayerView view = new PlayerView(id, "Player 1", 20, 12, null, 0L);
 
         PlayerDto playerDto = new PlayerDto();
         playerDto.setId(id);
         playerDto.setName("Player 1");
 
-        when(playerRepository.findById(id)).thenReturn(Optional.of(player));
-        when(playerMapper.toDto(player)).thenReturn(playerDto);
+        when(playerRepository.findViewById(id)).thenReturn(Optional.of(view));
+        when(playerMapper.toDto(view)).thenReturn(playerDto);
 
         PlayerDto result = playerService.getPlayerById(id);
 
@@ -121,7 +134,7 @@ public class PlayerServiceImplTest {
     @Test
     public void testGetPlayerById_NonExistingId() {
         Long id = 999L;
-        when(playerRepository.findById(id)).thenReturn(Optional.empty());
+        when(playerRepository.findViewById(id)).thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class, () -> playerService.getPlayerById(id));
     }
@@ -146,13 +159,28 @@ public class PlayerServiceImplTest {
         when(playerRepository.save(player)).thenReturn(player);
         when(playerMapper.toDto(player)).thenReturn(playerDto);
 
-        PlayerDto result = playerService.updatePlayer(id, dto);
+        PlayerDto result = playerService.updatePlayer(id, dto, null);
 
         assertNotNull(result);
         verify(playerMapper, times(1)).updatePlayerFromDto(dto, player);
         verify(playerRepository, times(1)).save(player);
     }
 
+    @Test
+    public void testUpdatePlayer_StaleVersion() {
+        Player player = new Player();
+        player.setId(1L);
+        player.setVersion(4L);
+        CreatePlayerRequestDto dto = new CreatePlayerRequestDto();
+        dto.setName("Player 2");
+        dto.setAge(26);
+
+        when(playerRepository.findById(1L)).thenReturn(Optional.of(player));
+
+        assertThrows(PreconditionFailedException.class, () -> playerService.updatePlayer(1L, dto, 3L));
+        verify(playerRepository, never()).save(any());
+    }
+
     @Test
     public void testDeletePlayer_ExistingId() {
         Long id = 1L;
@@ -170,4 +198,64 @@ public class PlayerServiceImplTest {
 
         assertThrows(EntityNotFoundException.class, () -> playerService.deletePlayer(id));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetTeamRoster_TeamNotFound() {
+        when(teamRepository.existsById(99L)).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class, () -> playerService.getTeamRoster(99L));
+        verify(playerRepository, never()).findViewsByTeamId(any());
+    }
+
+    @Test
+    public void testGetPlayersAfter_ReturnsNextCursorWhenMoreRowsExist() {
+        PlayerView first = view(1L);
+        PlayerView second = view(2L);
+        PlayerView third = view(3L);
+        when(playerRepository.findViewsAfter(0L, Limit.of(3)))
+                .thenReturn(List.of(first, second, third));
+        when(playerMapper.toDto(any(PlayerView.class))).thenReturn(new PlayerDto());
+
+        CursorPageDto<PlayerDto> page = playerService.getPlayersAfter("", 2);
+
+        assertEquals(2, page.getContent().size());
+        assertNotNull(page.getNextCursor());
+
+        when(playerRepository.findViewsAfter(2L, Limit.of(3))).thenReturn(List.of(third));
+
+        CursorPageDto<PlayerDto> lastPage = playerService.getPlayersAfter(page.getNextCursor(), 2);
+
+        assertEquals(1, lastPage.getContent().size());
+        assertNull(lastPage.getNextCursor());
+        verify(playerRepository, never()).count();
+    }
+
+    @Test
+    public void testGetPlayersAfter_InvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> playerService.getPlayersAfter("not a cursor", 20));
+    }
+
+    @Test
+    public void testExportPlayers_MapsAndDetachesEveryRow() {
+        Player first = new Player();
+        first.setId(1L);
+        Player second = new Player();
+        second.setId(2L);
+        PlayerDto firstDto = new PlayerDto();
+        PlayerDto secondDto = new PlayerDto();
+        when(playerRepository.streamAll()).thenReturn(Stream.of(first, second));
+        when(playerMapper.toDto(first)).thenReturn(firstDto);
+        when(playerMapper.toDto(second)).thenReturn(secondDto);
+
+        List<PlayerDto> exported = new ArrayList<>();
+        playerService.exportPlayers(exported::add);
+
+        assertEquals(List.of(firstDto, secondDto), exported);
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+
+    private PlayerView view(Long id) {
+        return new PlayerView(id, "Player " + id, 20, 12, 1L, 0L);
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.footballmanager;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.example.footballmanager.config.ReplicaRoutingDataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReplicaRoutingDataSourceTest {
+    private final AtomicLong clock = new AtomicLong();
+
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    public void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        new JdbcTemplate(primary).execute("DROP ALL OBJECTS");
+        new JdbcTemplate(replica).execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    public void testReadOnlyTransactions_GoToTheReplicaAndWritesToThePrimary() {
+        ReplicaRoutingDataSource routing = routing(Map.of("replica", replica));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(routing);
+
+        assertEquals("replica", inTransaction(routing, true, () -> origin(jdbcTemplate)));
+        assertEquals("primary", inTransaction(routing, false, () -> origin(jdbcTemplate)));
+        assertEquals("primary", origin(jdbcTemplate));
+
+        inTransaction(routing, false, () -> jdbcTemplate.update("UPDATE origin SET name = 'written'"));
+        assertEquals("written", origin(new JdbcTemplate(primary)));
+        assertEquals("replica", origin(new JdbcTemplate(replica)));
+        assertEquals(0, routing.getFallbackCount());
+    }
+
+    @Test
+    public void testReadOnlyTransactions_RotateAcrossReplicas() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica", replica);
+        replicas.put("second", database("second"));
+        ReplicaRoutingDataSource routing = routing(replicas);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(routing);
+
+        assertEquals("replica", inTransaction(routing, true, () -> origin(jdbcTemplate)));
+        assertEquals("second", inTransaction(routing, true, () -> origin(jdbcTemplate)));
+        assertEquals("replica", inTransaction(routing, true, () -> origin(jdbcTemplate)));
+        new JdbcTemplate(replicas.get("second")).execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    public void testUnavailableReplica_FallsBackToThePrimaryUntilTheRetryInterval() {
+        AtomicBoolean down = new AtomicBoolean(true);
+        DataSource flaky = new DelegatingDataSource(replica) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (down.get()) {
+                    throw new SQLTransientConnectionException("Connection refused");
+                }
+                return super.getConnection();
+            }
+        };
+        ReplicaRoutingDataSource routing = routing(Map.of("replica", flaky));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(routing);
+
+        assertEquals("primary", inTransaction(routing, true, () -> origin(jdbcTemplate)));
+        assertEquals(0, routing.getAvailableReplicas());
+        down.set(false);
+        assertEquals("primary", inTransaction(routing, true, () -> origin(jdbcTemplate)));
+        assertEquals(2, routing.getFallbackCount());
+
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertEquals("replica", inTransaction(routing, true, () -> origin(jdbcTemplate)));
+        assertEquals(1, routing.getAvailableReplicas());
+    }
+
+    @Test
+    public void testClose_ClosesPrimaryAndReplicaPools() throws Exception {
+        HikariDataSource primaryPool = pool("primary");
+        HikariDataSource replicaPool = pool("replica");
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primaryPool, Map.of("replica", replicaPool),
+                Duration.ofSeconds(30), clock::get);
+        assertEquals("replica", inTransaction(routing, true, () -> origin(new JdbcTemplate(routing))));
+
+        routing.close();
+
+        assertTrue(primaryPool.isClosed());
+        assertTrue(replicaPool.isClosed());
+    }
+
+    private ReplicaRoutingDataSource routing(Map<String, DataSource> replicas) {
+        return new ReplicaRoutingDataSource(primary, replicas, Duration.ofSeconds(30), clock::get);
+    }
+
+    private <T> T inTransaction(DataSource dataSource, boolean readOnly, Supplier<T> work) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> work.get());
+    }
+
+    private static String origin(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject("SELECT name FROM origin", String.class);
+    }
+
+    private static HikariDataSource pool(String name) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:replica_routing_" + name + ";DB_CLOSE_DELAY=-1");
+        pool.setUsername("sa");
+        return pool;
+    }
+
+    private static DataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:replica_routing_" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE origin (name VARCHAR(32))");
+        jdbcTemplate.update("INSERT INTO origin (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,256 @@
+package org.example.footballmanager;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.footballmanager.config.PermitLimitedDataSource;
+import org.example.footballmanager.config.ReplicaRoutingDataSource;
+import org.example.footballmanager.dto.TransferRequestDto;
+import org.example.footballmanager.dto.team.TeamDto;
+import org.example.footballmanager.model.Player;
+import org.example.footballmanager.service.PlayerService;
+import org.example.footballmanager.service.TeamService;
+import org.example.footballmanager.service.TransferService;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the application against two embedded databases, a primary and a replica, to check that
+ * read-only service calls go through {@code JpaTransactionManager} to the replica and writes to
+ * the primary. Before each test the replica is reset to a copy of the primary; the tests then
+ * change one of them directly to tell them apart.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReplicaRoutingIntegrationTest.PRIMARY_URL,
+        "db.replicas.enabled=true",
+        "db.replicas.nodes[0].url=" + ReplicaRoutingIntegrationTest.REPLICA_URL,
+        "db.replicas.nodes[0].username=sa",
+        "db.replicas.nodes[0].password="
+})
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+public class ReplicaRoutingIntegrationTest {
+    static final String PRIMARY_URL = "jdbc:h2:mem:replica_routing_it_primary;MODE=MySQL;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:replica_routing_it_replica;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private TransferService transferService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final JdbcTemplate primary = new JdbcTemplate(database(PRIMARY_URL));
+    private final JdbcTemplate replica = new JdbcTemplate(database(REPLICA_URL));
+
+    @BeforeEach
+    public void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        List<String> script = primary.queryForList("SCRIPT", String.class);
+        replica.execute("DROP ALL OBJECTS");
+        script.forEach(replica::execute);
+    }
+
+    @Test
+    public void testDataSource_IsWrappedWithOneReplicaPool() {
+        ReplicaRoutingDataSource routing = assertInstanceOf(ReplicaRoutingDataSource.class, dataSource);
+
+        assertInstanceOf(HikariDataSource.class, routing.getTargetDataSource());
+        assertEquals(1, routing.getAvailableReplicas());
+        assertEquals(1.0, meterRegistry.get("db.replicas.available").gauge().value());
+    }
+
+    @Test
+    public void testReadOnlyServiceCall_ReadsFromTheReplica() {
+        replica.update("UPDATE team SET name = 'Replica Team' WHERE id = 1");
+
+        List<String> names = teamService.getAllTeams(PageRequest.of(0, 10)).map(TeamDto::getName).toList();
+
+        assertTrue(names.contains("Replica Team"), "expected the replica's rows, got " + names);
+    }
+
+    @Test
+    public void testPerformTransfer_WritesToThePrimary() {
+        Long playerId = primary.queryForObject("SELECT MIN(id) FROM player WHERE team_id = 1", Long.class);
+        TransferRequestDto dto = new TransferRequestDto();
+        dto.setPlayerId(playerId);
+        dto.setBuyingTeamId(2L);
+
+        transferService.performTransfer(dto);
+
+        assertEquals(2L, primary.queryForObject("SELECT team_id FROM player WHERE id = ?", Long.class, playerId));
+        assertEquals(1L, replica.queryForObject("SELECT team_id FROM player WHERE id = ?", Long.class, playerId));
+    }
+
+    @Test
+    public void testWriteAfterAReadOnlyCallInTheSameRequest_GoesToThePrimary() throws Exception {
+        Long playerId = primary.queryForObject("SELECT MIN(id) FROM player WHERE team_id = 1", Long.class);
+
+        mockMvc.perform(post("/replica-routing-it/read-then-transfer")
+                        .param("playerId", playerId.toString())
+                        .param("buyingTeamId", "2"))
+                .andExpect(status().isOk());
+
+        assertEquals(2L, primary.queryForObject("SELECT team_id FROM player WHERE id = ?", Long.class, playerId));
+        assertEquals(1L, replica.queryForObject("SELECT team_id FROM player WHERE id = ?", Long.class, playerId));
+    }
+
+    @Test
+    public void testExplicitOpenInView_FailsStartup() {
+        IllegalStateException failure = assertThrows(IllegalStateException.class,
+                () -> startContext("--spring.jpa.open-in-view=true"));
+
+        assertTrue(failure.getMessage().contains("spring.jpa.open-in-view"), failure.getMessage());
+    }
+
+    @Test
+    public void testCachedLookupsAfterATransfer_SeeThePrimaryWhileTheReplicaLags() {
+        Long playerId = primary.queryForObject("SELECT MIN(id) FROM player WHERE team_id = 1", Long.class);
+        TeamDto before = teamService.getTeamById(2L);
+        playerService.getPlayerById(playerId);
+        TransferRequestDto dto = new TransferRequestDto();
+        dto.setPlayerId(playerId);
+        dto.setBuyingTeamId(2L);
+
+        transferService.performTransfer(dto);
+        // the replica has not caught up with the transfer
+        assertEquals(before.getVersion(), replica.queryForObject("SELECT version FROM team WHERE id = 2", Long.class));
+
+        TeamDto after = teamService.getTeamById(2L);
+        assertEquals(primary.queryForObject("SELECT version FROM team WHERE id = 2", Long.class), after.getVersion());
+        assertNotEquals(before.getVersion(), after.getVersion());
+        assertEquals(0, after.getAccountBalance().compareTo(
+                primary.queryForObject("SELECT account_balance FROM team WHERE id = 2", BigDecimal.class)));
+        assertNotEquals(0, after.getAccountBalance().compareTo(before.getAccountBalance()));
+        assertEquals(2L, playerService.getPlayerById(playerId).getTeamId());
+    }
+
+    @Test
+    public void testReadOnlyTransactions_DoNotFillTheSecondLevelCache() {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictAll();
+        Long playerId = replica.queryForObject("SELECT MIN(id) FROM player", Long.class);
+
+        playerService.exportPlayers(player -> {
+        });
+
+        assertFalse(cache.containsEntity(Player.class, playerId));
+    }
+
+    @Test
+    public void testContextClose_ClosesThePrimaryPool() {
+        ConfigurableApplicationContext context = startContext();
+        ReplicaRoutingDataSource routing = context.getBean(ReplicaRoutingDataSource.class);
+        HikariDataSource primaryPool = (HikariDataSource) routing.getTargetDataSource();
+
+        context.close();
+
+        assertTrue(primaryPool.isClosed());
+    }
+
+    @Test
+    public void testPermitLimiting_WrapsReplicaRouting() {
+        ConfigurableApplicationContext context = startContext("--db.permits.enabled=true");
+        PermitLimitedDataSource limited = assertInstanceOf(PermitLimitedDataSource.class, context.getBean(DataSource.class));
+        ReplicaRoutingDataSource routing = assertInstanceOf(ReplicaRoutingDataSource.class, limited.getTargetDataSource());
+        HikariDataSource primaryPool = assertInstanceOf(HikariDataSource.class, routing.getTargetDataSource());
+        replica.update("UPDATE team SET name = 'Replica Team' WHERE id = 1");
+
+        List<String> names = context.getBean(TeamService.class).getAllTeams(PageRequest.of(0, 10))
+                .map(TeamDto::getName).toList();
+        context.close();
+
+        assertTrue(names.contains("Replica Team"), "expected the replica's rows, got " + names);
+        assertTrue(primaryPool.isClosed());
+    }
+
+    /**
+     * Starts a context of its own for tests that close it, as closing the shared test context
+     * would break the other tests. Its second-level cache is off: the JCache regions are shared
+     * across the JVM and would be closed with it.
+     */
+    private static ConfigurableApplicationContext startContext(String... args) {
+        List<String> arguments = new ArrayList<>(List.of("--spring.datasource.url=" + PRIMARY_URL,
+                "--db.replicas.enabled=true", "--db.replicas.nodes[0].url=" + REPLICA_URL,
+                "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false"));
+        arguments.addAll(List.of(args));
+        return new SpringApplicationBuilder(FootballManagerApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run(arguments.toArray(String[]::new));
+    }
+
+    @TestConfiguration
+    static class ReadThenTransferController {
+        @RestController
+        static class Endpoint {
+            private final TeamService teamService;
+            private final TransferService transferService;
+
+            Endpoint(TeamService teamService, TransferService transferService) {
+                this.teamService = teamService;
+                this.transferService = transferService;
+            }
+
+            @PostMapping("/replica-routing-it/read-then-transfer")
+            void readThenTransfer(@RequestParam Long playerId, @RequestParam Long buyingTeamId) {
+                teamService.getAllTeams(PageRequest.of(0, 10));
+                TransferRequestDto dto = new TransferRequestDto();
+                dto.setPlayerId(playerId);
+                dto.setBuyingTeamId(buyingTeamId);
+                transferService.performTransfer(dto);
+            }
+        }
+    }
+
+    private static DataSource database(String url) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL(url);
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+}
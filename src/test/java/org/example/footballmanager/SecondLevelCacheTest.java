@@ -0,0 +1,168 @@
+package org.example.footballmanager;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.footballmanager.model.Money;
+import org.example.footballmanager.model.Player;
+import org.example.footballmanager.model.Team;
+import org.example.footballmanager.repository.PlayerRepository;
+import org.example.footballmanager.repository.TeamRepository;
+import org.hibernate.Cache;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the read-write second-level cache regions stay coherent with the database across
+ * transactions. Each test commits its own transactions, so it works on teams and players it
+ * creates itself and removes them afterwards.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SecondLevelCacheTest {
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private TransactionTemplate tx;
+    private Statistics statistics;
+    private Cache cache;
+    private Long firstTeamId;
+    private Long secondTeamId;
+    private Long playerId;
+
+    @BeforeEach
+    public void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+        cache = sessionFactory.getCache();
+        firstTeamId = tx.execute(status -> teamRepository.save(team("Cache Team A")).getId());
+        secondTeamId = tx.execute(status -> teamRepository.save(team("Cache Team B")).getId());
+        playerId = tx.execute(status -> {
+            Player player = new Player();
+            player.setName("Cached Player");
+            player.setAge(24);
+            player.setExperienceMonths(36);
+            player.setCurrentTeam(teamRepository.getReferenceById(firstTeamId));
+            return playerRepository.save(player).getId();
+        });
+        statistics.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        tx.executeWithoutResult(status -> {
+            playerRepository.findById(playerId).ifPresent(playerRepository::delete);
+            teamRepository.deleteAllById(List.of(firstTeamId, secondTeamId));
+        });
+    }
+
+    @Test
+    public void testFindById_SecondReadIsServedFromCache() {
+        tx.execute(status -> teamRepository.findById(firstTeamId).orElseThrow());
+        long statements = statistics.getPrepareStatementCount();
+
+        Team team = tx.execute(status -> teamRepository.findById(firstTeamId).orElseThrow());
+
+        assertEquals("Cache Team A", team.getName());
+        assertEquals(statements, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getDomainDataRegionStatistics("team").getHitCount() > 0);
+    }
+
+    @Test
+    public void testUpdate_NextReadSeesCommittedBalance() {
+        tx.execute(status -> teamRepository.findById(firstTeamId).orElseThrow());
+
+        tx.executeWithoutResult(status -> {
+            Team team = teamRepository.findById(firstTeamId).orElseThrow();
+            team.setAccountBalance(Money.of(new BigDecimal("250.00")));
+        });
+
+        Team team = tx.execute(status -> teamRepository.findById(firstTeamId).orElseThrow());
+        assertEquals(0, new BigDecimal("250.00").compareTo(team.getAccountBalance().toBigDecimal()));
+        assertEquals(1L, team.getVersion());
+    }
+
+    @Test
+    public void testRolledBackUpdate_LeavesCachedValueUntouched() {
+        tx.execute(status -> teamRepository.findById(firstTeamId).orElseThrow());
+
+        tx.executeWithoutResult(status -> {
+            Team team = teamRepository.findById(firstTeamId).orElseThrow();
+            team.setAccountBalance(Money.of(new BigDecimal("999.00")));
+            teamRepository.flush();
+            status.setRollbackOnly();
+        });
+
+        Team team = tx.execute(status -> teamRepository.findById(firstTeamId).orElseThrow());
+        assertEquals(0, new BigDecimal("1000.00").compareTo(team.getAccountBalance().toBigDecimal()));
+    }
+
+    @Test
+    public void testDelete_NextReadMissesCache() {
+        tx.execute(status -> playerRepository.findById(playerId).orElseThrow());
+        assertTrue(cache.containsEntity(Player.class, playerId));
+
+        tx.executeWithoutResult(status -> playerRepository.deleteById(playerId));
+        long statements = statistics.getPrepareStatementCount();
+
+        // Read-write regions keep a soft lock for deleted keys, so the next read must miss and go to the database.
+        assertTrue(tx.execute(status -> playerRepository.findById(playerId)).isEmpty());
+        assertEquals(statements + 1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testMovingPlayer_EvictsBothRosterCollections() {
+        assertEquals(List.of(playerId), rosterIds(firstTeamId));
+        assertEquals(List.of(), rosterIds(secondTeamId));
+
+        tx.executeWithoutResult(status -> playerRepository.findById(playerId).orElseThrow()
+                .setCurrentTeam(teamRepository.getReferenceById(secondTeamId)));
+
+        assertEquals(List.of(), rosterIds(firstTeamId));
+        assertEquals(List.of(playerId), rosterIds(secondTeamId));
+    }
+
+    private List<Long> rosterIds(Long teamId) {
+        return tx.execute(status -> {
+            List<Player> players = teamRepository.findById(teamId).orElseThrow().getPlayers();
+            Hibernate.initialize(players);
+            return players.stream().map(Player::getId).toList();
+        });
+    }
+
+    private Team team(String name) {
+        Team team = new Team();
+        team.setName(name);
+        team.setAccountBalance(Money.of(new BigDecimal("1000.00")));
+        team.setCommissionPercentage(new BigDecimal("5.00"));
+        return team;
+    }
+}
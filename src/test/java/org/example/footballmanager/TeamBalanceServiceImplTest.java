@@ -0,0 +1,93 @@
+package org.example.footballmanager;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.example.footballmanager.dto.team.TeamBalanceDto;
+import org.example.footballmanager.model.TeamBalanceSnapshot;
+import org.example.footballmanager.repository.TeamBalanceSnapshotRepository;
+import org.example.footballmanager.repository.TeamRepository;
+import org.example.footballmanager.repository.TransferLedgerRepository;
+import org.example.footballmanager.service.impl.TeamBalanceServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class TeamBalanceServiceImplTest {
+
+    private static final LocalDateTime SNAPSHOT_AT = LocalDateTime.of(2024, 8, 1, 0, 0);
+    private static final LocalDateTime AT = LocalDateTime.of(2024, 8, 31, 23, 0);
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private TeamBalanceSnapshotRepository snapshotRepository;
+
+    @Mock
+    private TransferLedgerRepository transferLedgerRepository;
+
+    @InjectMocks
+    private TeamBalanceServiceImpl teamBalanceService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    public void testGetBalanceAt_ReplaysLedgerAfterNearestSnapshot() {
+        when(snapshotRepository.findFirstByTeamIdAndTakenAtLessThanEqualOrderByTakenAtDesc(1L, AT))
+                .thenReturn(Optional.of(snapshot(1L, 1000000)));
+        when(transferLedgerRepository.sumCredits(1L, SNAPSHOT_AT, AT)).thenReturn(BigDecimal.valueOf(252000));
+        when(transferLedgerRepository.sumDebits(1L, SNAPSHOT_AT, AT)).thenReturn(BigDecimal.valueOf(244800));
+
+        TeamBalanceDto balance = teamBalanceService.getBalanceAt(1L, AT);
+
+        assertEquals(0, BigDecimal.valueOf(1007200).compareTo(balance.getBalance()));
+        assertEquals(SNAPSHOT_AT, balance.getSnapshotAt());
+    }
+
+    @Test
+    public void testGetBalanceAt_NoHistory() {
+        when(snapshotRepository.findFirstByTeamIdAndTakenAtLessThanEqualOrderByTakenAtDesc(1L, AT))
+                .thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> teamBalanceService.getBalanceAt(1L, AT));
+    }
+
+    @Test
+    public void testSnapshotAll_WritesOnlyTeamsWhoseBalanceMoved() {
+        when(teamRepository.findAllIds()).thenReturn(List.of(1L, 2L));
+        when(snapshotRepository.findFirstByTeamIdAndTakenAtLessThanEqualOrderByTakenAtDesc(anyLong(), eq(AT)))
+                .thenAnswer(invocation -> Optional.of(snapshot(invocation.getArgument(0), 1000000)));
+        when(transferLedgerRepository.sumCredits(anyLong(), eq(SNAPSHOT_AT), eq(AT))).thenReturn(BigDecimal.ZERO);
+        when(transferLedgerRepository.sumDebits(1L, SNAPSHOT_AT, AT)).thenReturn(BigDecimal.valueOf(50000));
+        when(transferLedgerRepository.sumDebits(2L, SNAPSHOT_AT, AT)).thenReturn(BigDecimal.ZERO);
+
+        assertEquals(1, teamBalanceService.snapshotAll(AT));
+
+        ArgumentCaptor<TeamBalanceSnapshot> saved = ArgumentCaptor.forClass(TeamBalanceSnapshot.class);
+        verify(snapshotRepository, times(1)).save(saved.capture());
+        assertEquals(1L, saved.getValue().getTeamId());
+        assertEquals(AT, saved.getValue().getTakenAt());
+        assertEquals(0, BigDecimal.valueOf(950000).compareTo(saved.getValue().getBalance()));
+    }
+
+    private TeamBalanceSnapshot snapshot(Long teamId, long balance) {
+        TeamBalanceSnapshot snapshot = new TeamBalanceSnapshot();
+        snapshot.setTeamId(teamId);
+        snapshot.setBalance(BigDecimal.valueOf(balance));
+        snapshot.setTakenAt(SNAPSHOT_AT);
+        return snapshot;
+    }
+}
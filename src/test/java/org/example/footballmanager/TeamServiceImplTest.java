@@ -1,20 +1,29 @@
 package org.example.footballmanager;
 
 import jakarta.persistence.EntityNotFoundException;
+import org.example.footballmanager.dto.CursorPageDto;
 import org.example.footballmanager.dto.team.CreateTeamRequestDto;
 import org.example.footballmanager.dto.team.TeamDto;
+import org.example.footballmanager.exeption.PreconditionFailedException;
 import org.example.footballmanager.mapper.TeamMapper;
+import org.example.footballmanager.model.Money;
 import org.example.footballmanager.model.Team;
+import org.example.footballmanager.model.TeamBalanceSnapshot;
+import org.example.footballmanager.repository.TeamBalanceSnapshotRepository;
 import org.example.footballmanager.repository.TeamRepository;
+import org.example.footballmanager.repository.projection.TeamView;
+import org.example.footballmanager.service.TeamStatsService;
 import org.example.footballmanager.service.impl.TeamServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
 
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -28,6 +37,12 @@ public class TeamServiceImplTest {
     @Mock
     private TeamMapper teamMapper;
 
+    @Mock
+    private TeamBalanceSnapshotRepository snapshotRepository;
+
+    @Mock
+    private TeamStatsService teamStatsService;
+
     @InjectMocks
     private TeamServiceImpl teamService;
 
@@ -45,7 +60,7 @@ public class TeamServiceImplTest {
 
         Team team = new Team();
         team.setName("Team A");
-        team.setAccountBalance(BigDecimal.valueOf(1000000));
+        team.setAccountBalance(Money.of(BigDecimal.valueOf(1000000)));
         team.setCommissionPercentage(BigDecimal.valueOf(5.0));
 
         TeamDto teamDto = new TeamDto();
@@ -63,6 +78,7 @@ public class TeamServiceImplTest {
         assertNotNull(result);
         assertEquals("Team A", result.getName());
         verify(teamRepository, times(1)).save(team);
+        verify(snapshotRepository, times(1)).save(any(TeamBalanceSnapshot.class));
     }
 
     @Test
@@ -115,16 +131,14 @@ public class TeamServiceImplTest {
     @Test
     public void testGetTeamById_ExistingId() {
         Long id = 1L;
-        Team team = new Team();
-        team.setId(id);
-        team.setName("Team A");
+        TeamView view = new TeamView(id, "Team A", Money.of(BigDecimal.valueOf(1000000)), BigDecimal.valueOf(5.0), 0L);
 
         TeamDto teamDto = new TeamDto();
         teamDto.setId(id);
         teamDto.setName("Team A");
 
-        when(teamRepository.findById(id)).thenReturn(Optional.of(team));
-        when(teamMapper.toDto(team)).thenReturn(teamDto);
+        when(teamRepository.findViewById(id)).thenReturn(Optional.of(view));
+        when(teamMapper.toDto(view)).thenReturn(teamDto);
 
         TeamDto result = teamService.getTeamById(id);
 
@@ -136,7 +150,7 @@ public class TeamServiceImplTest {
     @Test
     public void testGetTeamById_NonExistingId() {
         Long id = 999L;
-        when(teamRepository.findById(id)).thenReturn(Optional.empty());
+        when(teamRepository.findViewById(id)).thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class, () -> teamService.getTeamById(id));
     }
@@ -158,13 +172,27 @@ public class TeamServiceImplTest {
         when(teamRepository.save(team)).thenReturn(team);
         when(teamMapper.toDto(team)).thenReturn(teamDto);
 
-        TeamDto result = teamService.updateTeam(id, dto);
+        TeamDto result = teamService.updateTeam(id, dto, null);
 
         assertNotNull(result);
         verify(teamMapper, times(1)).updateTeamFromDto(dto, team);
         verify(teamRepository, times(1)).save(team);
     }
 
+    @Test
+    public void testUpdateTeam_StaleVersion() {
+        Team team = new Team();
+        team.setId(1L);
+        team.setVersion(7L);
+        CreateTeamRequestDto dto = new CreateTeamRequestDto();
+        dto.setName("Team B");
+
+        when(teamRepository.findById(1L)).thenReturn(Optional.of(team));
+
+        assertThrows(PreconditionFailedException.class, () -> teamService.updateTeam(1L, dto, 6L));
+        verify(teamRepository, never()).save(any());
+    }
+
     @Test
     public void testDeleteTeam_ExistingId() {
         Long id = 1L;
@@ -182,4 +210,21 @@ public class TeamServiceImplTest {
 
         assertThrows(EntityNotFoundException.class, () -> teamService.deleteTeam(id));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetTeamsAfter_LastPageHasNoCursor() {
+        TeamView team = new TeamView(4L, "Team D", Money.ZERO, BigDecimal.ONE, 0L);
+        when(teamRepository.findViewsAfter(0L, Limit.of(21))).thenReturn(List.of(team));
+        when(teamMapper.toDto(team)).thenReturn(new TeamDto());
+
+        CursorPageDto<TeamDto> page = teamService.getTeamsAfter(null, 20);
+
+        assertEquals(1, page.getContent().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    public void testGetTeamsAfter_InvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> teamService.getTeamsAfter(null, 0));
+    }
+}
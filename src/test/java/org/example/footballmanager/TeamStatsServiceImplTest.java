@@ -0,0 +1,200 @@
+package org.example.footballmanager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.footballmanager.config.TransferQuoteProperties;
+import org.example.footballmanager.dto.TransferRequestDto;
+import org.example.footballmanager.dto.TransferResultDto;
+import org.example.footballmanager.dto.TransferStatus;
+import org.example.footballmanager.dto.player.CreatePlayerRequestDto;
+import org.example.footballmanager.dto.team.CreateTeamRequestDto;
+import org.example.footballmanager.dto.team.TeamStatsDto;
+import org.example.footballmanager.mapper.impl.PlayerMapperImpl;
+import org.example.footballmanager.mapper.impl.TeamMapperImpl;
+import org.example.footballmanager.service.PlayerService;
+import org.example.footballmanager.service.TeamService;
+import org.example.footballmanager.service.TeamStatsService;
+import org.example.footballmanager.service.TransferService;
+import org.example.footballmanager.service.impl.PlayerServiceImpl;
+import org.example.footballmanager.service.impl.TeamServiceImpl;
+import org.example.footballmanager.service.impl.TeamStatsServiceImpl;
+import org.example.footballmanager.service.impl.TransferFeeCalculator;
+import org.example.footballmanager.service.impl.TransferServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives the real player, team and transfer services so that every change commits and its
+ * stats deltas are written, then checks the incremental numbers against a full rebuild. Works on
+ * teams and players it creates itself and removes them afterwards.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({PlayerServiceImpl.class, PlayerMapperImpl.class, TeamServiceImpl.class, TeamMapperImpl.class,
+        TransferServiceImpl.class, TransferFeeCalculator.class, TeamStatsServiceImpl.class,
+        TeamStatsServiceImplTest.Config.class})
+public class TeamStatsServiceImplTest {
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        TransferQuoteProperties transferQuoteProperties() {
+            return new TransferQuoteProperties();
+        }
+
+        @Bean
+        CacheManager cacheManager() {
+            return new NoOpCacheManager();
+        }
+    }
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private TransferService transferService;
+
+    @Autowired
+    private TeamStatsService teamStatsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> teamIds = new ArrayList<>();
+
+    @AfterEach
+    public void tearDown() {
+        if (teamIds.isEmpty()) {
+            return;
+        }
+        NamedParameterJdbcTemplate jdbc = new NamedParameterJdbcTemplate(jdbcTemplate);
+        Map<String, List<Long>> ids = Map.of("ids", teamIds);
+        jdbc.update("DELETE FROM transfer_ledger WHERE buying_team_id IN (:ids) OR selling_team_id IN (:ids)", ids);
+        jdbc.update("DELETE FROM team_balance_snapshot WHERE team_id IN (:ids)", ids);
+        jdbc.update("DELETE FROM player WHERE team_id IN (:ids) OR name LIKE 'Stats %'", ids);
+        jdbc.update("DELETE FROM team_stats WHERE team_id IN (:ids)", ids);
+        jdbc.update("DELETE FROM team WHERE id IN (:ids)", ids);
+    }
+
+    @Test
+    public void testNewTeam_StartsWithEmptyStats() {
+        Long teamId = createTeam("Stats Empty");
+
+        TeamStatsDto stats = teamStatsService.getStats(teamId);
+
+        assertEquals(0, stats.getSquadSize());
+        assertEquals(0, BigDecimal.ZERO.compareTo(stats.getAverageAge()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(stats.getMarketValue()));
+    }
+
+    @Test
+    public void testPlayerChanges_MatchFullRebuild() {
+        Long home = createTeam("Stats Home");
+        Long away = createTeam("Stats Away");
+        Long first = createPlayer("Stats One", 20, 24, home);
+        Long second = createPlayer("Stats Two", 25, 48, home);
+        Long third = createPlayer("Stats Three", 30, 61, home);
+        Long freeAgent = createPlayer("Stats Free", 22, 7, null);
+
+        playerService.updatePlayer(second, request("Stats Two", 26, 50, home), null);
+        playerService.updatePlayer(freeAgent, request("Stats Free", 22, 7, away), null);
+        transferService.performTransfer(transfer(first, away));
+        assertTrue(transferService.performTransfers(List.of(transfer(third, away), transfer(third, home), transfer(second, home)))
+                .stream().map(TransferResultDto::getStatus).toList()
+                .containsAll(List.of(TransferStatus.APPLIED, TransferStatus.REJECTED)));
+        playerService.deletePlayer(first);
+
+        TeamStatsDto homeStats = teamStatsService.getStats(home);
+        TeamStatsDto awayStats = teamStatsService.getStats(away);
+        assertEquals(2, homeStats.getSquadSize());
+        assertEquals(new BigDecimal("28.00"), homeStats.getAverageAge());
+        assertEquals(new BigDecimal("395641.02"), homeStats.getMarketValue());
+        assertEquals(1, awayStats.getSquadSize());
+        assertEquals(new BigDecimal("31818.18"), awayStats.getMarketValue());
+
+        teamStatsService.rebuild();
+
+        assertSameStats(homeStats, teamStatsService.getStats(home));
+        assertSameStats(awayStats, teamStatsService.getStats(away));
+    }
+
+    @Test
+    public void testRebuild_KeepsSeededTeamsConsistent() {
+        List<TeamStatsDto> before = teamStatsService.getAllStats();
+
+        teamStatsService.rebuild();
+
+        List<TeamStatsDto> after = teamStatsService.getAllStats();
+        assertEquals(before.size(), after.size());
+        for (int i = 0; i < before.size(); i++) {
+            assertSameStats(before.get(i), after.get(i));
+        }
+    }
+
+    private void assertSameStats(TeamStatsDto expected, TeamStatsDto actual) {
+        assertEquals(expected.getTeamId(), actual.getTeamId());
+        assertEquals(expected.getSquadSize(), actual.getSquadSize());
+        assertEquals(0, expected.getAverageAge().compareTo(actual.getAverageAge()));
+        assertEquals(0, expected.getMarketValue().compareTo(actual.getMarketValue()));
+    }
+
+    private Long createTeam(String name) {
+        CreateTeamRequestDto dto = new CreateTeamRequestDto();
+        dto.setName(name);
+        dto.setAccountBalance(new BigDecimal("100000000.00"));
+        dto.setCommissionPercentage(new BigDecimal("5.00"));
+        Long id = teamService.createTeam(dto).getId();
+        teamIds.add(id);
+        return id;
+    }
+
+    private Long createPlayer(String name, int age, int experienceMonths, Long teamId) {
+        return playerService.createPlayer(request(name, age, experienceMonths, teamId)).getId();
+    }
+
+    private CreatePlayerRequestDto request(String name, int age, int experienceMonths, Long teamId) {
+        CreatePlayerRequestDto dto = new CreatePlayerRequestDto();
+        dto.setName(name);
+        dto.setAge(age);
+        dto.setExperienceMonths(experienceMonths);
+        dto.setTeamId(teamId);
+        return dto;
+    }
+
+    private TransferRequestDto transfer(Long playerId, Long buyingTeamId) {
+        TransferRequestDto dto = new TransferRequestDto();
+        dto.setPlayerId(playerId);
+        dto.setBuyingTeamId(buyingTeamId);
+        return dto;
+    }
+}
@@ -0,0 +1,120 @@
+package org.example.footballmanager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.footballmanager.config.RateLimitProperties;
+import org.example.footballmanager.controller.RateLimitFilter;
+import org.example.footballmanager.controller.TokenBucketRateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenBucketRateLimiterTest {
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    private RateLimitProperties properties;
+
+    @BeforeEach
+    public void setUp() {
+        properties = new RateLimitProperties();
+        properties.setCapacity(5);
+        properties.setRefillPerSecond(10);
+    }
+
+    @Test
+    public void testTryAcquire_AllowsBurstThenRefillsAtTheConfiguredRate() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(properties, clock::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire("client-a"));
+        }
+        long wait = limiter.tryAcquire("client-a");
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), wait);
+        assertEquals(0, limiter.tryAcquire("client-b"));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertEquals(0, limiter.tryAcquire("client-a"));
+        assertTrue(limiter.tryAcquire("client-a") > 0);
+
+        // a long pause refills the bucket only up to its capacity
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(60));
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire("client-a"));
+        }
+        assertTrue(limiter.tryAcquire("client-a") > 0);
+    }
+
+    @Test
+    public void testTryAcquire_ConcurrentCallersNeverExceedCapacity() throws Exception {
+        properties.setCapacity(100);
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(properties, clock::get);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Integer>> callers = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                callers.add(() -> {
+                    int admitted = 0;
+                    for (int j = 0; j < 1000; j++) {
+                        if (limiter.tryAcquire("shared") == 0) {
+                            admitted++;
+                        }
+                    }
+                    return admitted;
+                });
+            }
+            int admitted = 0;
+            for (Future<Integer> result : executor.invokeAll(callers)) {
+                admitted += result.get();
+            }
+            assertEquals(100, admitted);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFilter_RejectsWithRetryAfterAndCountsRejections() throws Exception {
+        properties.setCapacity(1);
+        properties.setRefillPerSecond(0.5);
+        ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RateLimitFilter filter = new RateLimitFilter(new TokenBucketRateLimiter(properties, clock::get),
+                "X-Client-Id", objectMapper, meterRegistry);
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(request("client-a"), first, new MockFilterChain());
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request("client-a"), second, chain);
+        MockHttpServletResponse other = new MockHttpServletResponse();
+        filter.doFilter(request("client-b"), other, new MockFilterChain());
+
+        assertEquals(200, first.getStatus());
+        assertEquals(429, second.getStatus());
+        assertEquals("2", second.getHeader("Retry-After"));
+        assertNull(chain.getRequest());
+        assertTrue(second.getContentAsString().contains("Rate limit exceeded"));
+        assertEquals(200, other.getStatus());
+        assertEquals(1.0, meterRegistry.get("api.requests.rejected").tag("reason", "rate_limit").counter().count());
+    }
+
+    private MockHttpServletRequest request(String client) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/transfers");
+        request.addHeader("X-Client-Id", client);
+        return request;
+    }
+}
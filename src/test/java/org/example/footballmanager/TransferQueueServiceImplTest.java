@@ -0,0 +1,257 @@
+package org.example.footballmanager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.example.footballmanager.config.TransferQueueProperties;
+import org.example.footballmanager.dto.QueuedTransferDto;
+import org.example.footballmanager.dto.TransferRequestDto;
+import org.example.footballmanager.dto.TransferResultDto;
+import org.example.footballmanager.dto.TransferStatus;
+import org.example.footballmanager.exeption.TransferQueueFullException;
+import org.example.footballmanager.service.TransferService;
+import org.example.footballmanager.service.impl.TransferQueueServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.stubbing.Answer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class TransferQueueServiceImplTest {
+
+    @Mock
+    private TransferService transferService;
+
+    @Captor
+    private ArgumentCaptor<List<TransferRequestDto>> batches;
+
+    private final Answer<List<TransferResultDto>> settle = invocation -> invocation
+            .<List<TransferRequestDto>>getArgument(0).stream()
+            .map(dto -> dto.getPlayerId() > 100
+                    ? TransferResultDto.rejected(dto, "Player with id " + dto.getPlayerId() + " not found")
+                    : TransferResultDto.applied(dto))
+            .toList();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private TransferQueueServiceImpl queueService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(transferService.performTransfers(anyList())).thenAnswer(settle);
+
+        TransferQueueProperties properties = new TransferQueueProperties();
+        properties.setPartitions(2);
+        properties.setCapacity(3);
+        properties.setPollInterval(Duration.ofMillis(10));
+        meterRegistry = new SimpleMeterRegistry();
+        queueService = new TransferQueueServiceImpl(transferService, properties, meterRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        queueService.stop();
+    }
+
+    @Test
+    public void testSubmit_QueuedTransfersAreSettledInOneBatch() throws InterruptedException {
+        CountDownLatch release = holdFirstSettlement();
+        queueService.start();
+
+        QueuedTransferDto first = queueService.submit(transfer(1L, 2L), null);
+        awaitSettlementStart();
+        QueuedTransferDto second = queueService.submit(transfer(2L, 3L), null);
+        QueuedTransferDto third = queueService.submit(transfer(3L, 4L), null);
+        QueuedTransferDto fourth = queueService.submit(transfer(101L, 2L), null);
+        release.countDown();
+
+        assertEquals(TransferStatus.PENDING, second.getStatus());
+        assertEquals(TransferStatus.APPLIED, await(first.getId()).getStatus());
+        assertEquals(TransferStatus.APPLIED, await(second.getId()).getStatus());
+        assertEquals(TransferStatus.APPLIED, await(third.getId()).getStatus());
+        assertEquals(TransferStatus.REJECTED, await(fourth.getId()).getStatus());
+        verify(transferService, times(2)).performTransfers(anyList());
+        assertEquals(4, meterRegistry.get("transfer.queue.latency").timer().count());
+    }
+
+    @Test
+    public void testSubmit_FullPartitionIsRejected() throws InterruptedException {
+        CountDownLatch release = holdFirstSettlement();
+        queueService.start();
+        queueService.submit(transfer(1L, 2L), null);
+        awaitSettlementStart();
+        // even player ids share a partition
+        for (long playerId = 2; playerId <= 6; playerId += 2) {
+            queueService.submit(transfer(playerId, 2L), null);
+        }
+
+        assertThrows(TransferQueueFullException.class, () -> queueService.submit(transfer(8L, 2L), null));
+        release.countDown();
+    }
+
+    @Test
+    public void testSubmit_TransfersOfOnePlayerSettleInSubmissionOrder() throws InterruptedException {
+        CountDownLatch release = holdFirstSettlement();
+        queueService.start();
+        queueService.submit(transfer(1L, 2L), null);
+        awaitSettlementStart();
+
+        queueService.submit(transfer(7L, 3L), null);
+        queueService.submit(transfer(9L, 2L), null);
+        QueuedTransferDto resale = queueService.submit(transfer(7L, 2L), null);
+        release.countDown();
+        await(resale.getId());
+
+        verify(transferService, times(2)).performTransfers(batches.capture());
+        List<Long> buyersOfPlayer7 = batches.getAllValues().get(1).stream()
+                .filter(dto -> dto.getPlayerId() == 7L)
+                .map(TransferRequestDto::getBuyingTeamId)
+                .toList();
+        assertEquals(List.of(3L, 2L), buyersOfPlayer7);
+    }
+
+    @Test
+    public void testSubmit_ReportsRejectedOutcome() {
+        queueService.start();
+
+        QueuedTransferDto queued = queueService.submit(transfer(101L, 2L), null);
+
+        QueuedTransferDto settled = await(queued.getId());
+        assertEquals(TransferStatus.REJECTED, settled.getStatus());
+        assertEquals("Player with id 101 not found", settled.getReason());
+    }
+
+    @Test
+    public void testSubmit_ReusesIdForSameIdempotencyKey() {
+        queueService.start();
+        QueuedTransferDto first = queueService.submit(transfer(1L, 2L), "key-1");
+
+        QueuedTransferDto second = queueService.submit(transfer(1L, 2L), "key-1");
+
+        assertEquals(first.getId(), second.getId());
+        await(first.getId());
+        verify(transferService, times(1)).performTransfers(anyList());
+    }
+
+    @Test
+    public void testSubmit_ConcurrentDuplicatesSeeTheFirstSubmission() throws Exception {
+        queueService.start();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Callable<String>> submissions = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                submissions.add(() -> {
+                    start.await();
+                    return queueService.submit(transfer(1L, 2L), "key-concurrent").getId();
+                });
+            }
+            List<Future<String>> ids = submissions.stream().map(executor::submit).toList();
+            start.countDown();
+
+            String first = ids.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<String> id : ids) {
+                assertEquals(first, id.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(TransferStatus.APPLIED, await(first).getStatus());
+            verify(transferService, times(1)).performTransfers(anyList());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSubmit_KeyOfRejectedSubmissionCanBeRetried() throws InterruptedException {
+        CountDownLatch release = holdFirstSettlement();
+        queueService.start();
+        queueService.submit(transfer(1L, 2L), null);
+        awaitSettlementStart();
+        for (long playerId = 2; playerId <= 6; playerId += 2) {
+            queueService.submit(transfer(playerId, 2L), null);
+        }
+        assertThrows(TransferQueueFullException.class, () -> queueService.submit(transfer(8L, 2L), "key-full"));
+        release.countDown();
+        verify(transferService, timeout(2000).times(2)).performTransfers(anyList());
+
+        QueuedTransferDto retried = queueService.submit(transfer(8L, 2L), "key-full");
+
+        assertEquals(TransferStatus.APPLIED, await(retried.getId()).getStatus());
+    }
+
+    @Test
+    public void testSubmit_RejectedWhenStopped() {
+        queueService.start();
+        queueService.stop();
+
+        assertThrows(TransferQueueFullException.class, () -> queueService.submit(transfer(1L, 2L), null));
+    }
+
+    @Test
+    public void testSubmit_SettlementFailureMarksBatchFailed() {
+        when(transferService.performTransfers(anyList())).thenThrow(new IllegalStateException("database unavailable"));
+        queueService.start();
+
+        QueuedTransferDto queued = queueService.submit(transfer(1L, 2L), null);
+
+        QueuedTransferDto settled = await(queued.getId());
+        assertEquals(TransferStatus.FAILED, settled.getStatus());
+        assertEquals("Settlement failed: database unavailable", settled.getReason());
+    }
+
+    @Test
+    public void testGetStatus_UnknownId() {
+        assertThrows(EntityNotFoundException.class, () -> queueService.getStatus("missing"));
+    }
+
+    /**
+     * Keeps the writer inside its first settlement until the returned latch is released, so
+     * later submissions pile up in the queue.
+     */
+    private CountDownLatch holdFirstSettlement() {
+        CountDownLatch release = new CountDownLatch(1);
+        when(transferService.performTransfers(anyList()))
+                .thenAnswer(invocation -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return settle.answer(invocation);
+                })
+                .thenAnswer(settle);
+        return release;
+    }
+
+    private void awaitSettlementStart() {
+        verify(transferService, timeout(2000).times(1)).performTransfers(anyList());
+    }
+
+    private QueuedTransferDto await(String id) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        QueuedTransferDto status = queueService.getStatus(id);
+        while (status.getStatus() == TransferStatus.PENDING && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+            status = queueService.getStatus(id);
+        }
+        return status;
+    }
+
+    private TransferRequestDto transfer(Long playerId, Long buyingTeamId) {
+        TransferRequestDto dto = new TransferRequestDto();
+        dto.setPlayerId(playerId);
+        dto.setBuyingTeamId(buyingTeamId);
+        return dto;
+    }
+}
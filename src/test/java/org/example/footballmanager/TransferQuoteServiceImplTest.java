@@ -0,0 +1,140 @@
+package org.example.footballmanager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.footballmanager.config.TransferQuoteProperties;
+import org.example.footballmanager.dto.TransferQuoteDto;
+import org.example.footballmanager.dto.TransferRequestDto;
+import org.example.footballmanager.model.Money;
+import org.example.footballmanager.model.Player;
+import org.example.footballmanager.model.Team;
+import org.example.footballmanager.repository.PlayerRepository;
+import org.example.footballmanager.repository.TeamRepository;
+import org.example.footballmanager.service.impl.TransferFeeCalculator;
+import org.example.footballmanager.service.impl.TransferQuoteServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class TransferQuoteServiceImplTest {
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private TransferFeeCalculator feeCalculator;
+
+    private TransferQuoteServiceImpl quoteService;
+
+    private Team teamA;
+
+    private Team teamB;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        TransferQuoteProperties properties = new TransferQuoteProperties();
+        properties.setParallelThreshold(8);
+        meterRegistry = new SimpleMeterRegistry();
+        feeCalculator = spy(new TransferFeeCalculator(properties, meterRegistry));
+        quoteService = new TransferQuoteServiceImpl(playerRepository, teamRepository, feeCalculator, properties);
+
+        teamA = team(1L, 1000000, 5.0);
+        teamB = team(2L, 100000, 2.0);
+        when(teamRepository.findAllById(anyIterable())).thenReturn(List.of(teamA, teamB));
+    }
+
+    @Test
+    public void testQuote_PricesWithoutWrites() {
+        when(playerRepository.findByIdIn(anyCollection())).thenReturn(List.of(player(1L, 25, 60, teamA)));
+
+        List<TransferQuoteDto> quotes = quoteService.quote(List.of(transfer(1L, 2L), transfer(1L, 1L), transfer(9L, 2L)));
+
+        // 60 * 100000 / 25 = 240000, plus 5% commission = 252000, more than team B holds
+        assertEquals(0, BigDecimal.valueOf(240000).compareTo(quotes.get(0).getTransferCost()));
+        assertEquals(0, BigDecimal.valueOf(252000).compareTo(quotes.get(0).getTotalAmount()));
+        assertFalse(quotes.get(0).isAffordable());
+        assertEquals("Cannot transfer player to the same team", quotes.get(1).getReason());
+        assertEquals("Player with id 9 not found", quotes.get(2).getReason());
+        verify(playerRepository, never()).save(any());
+        verify(teamRepository, never()).save(any());
+    }
+
+    @Test
+    public void testQuote_BulkQuotesKeepRequestOrderAndShareCachedFees() {
+        List<Player> players = new ArrayList<>();
+        List<TransferRequestDto> requests = new ArrayList<>();
+        LongStream.rangeClosed(1, 100).forEach(id -> {
+            players.add(player(id, 20 + (int) (id % 2), 12, teamA));
+            requests.add(transfer(id, 2L));
+        });
+        when(playerRepository.findByIdIn(anyCollection())).thenReturn(players);
+
+        List<TransferQuoteDto> quotes = quoteService.quote(requests);
+
+        assertEquals(100, quotes.size());
+        for (int i = 0; i < quotes.size(); i++) {
+            assertEquals(i + 1L, quotes.get(i).getPlayerId());
+            assertTrue(quotes.get(i).isAffordable());
+        }
+        verify(feeCalculator, times(100)).calculate(anyInt(), anyInt(), any());
+        assertEquals(2.0, feeMisses());
+    }
+
+    @Test
+    public void testQuote_TooManyPairs() {
+        List<TransferRequestDto> requests = new ArrayList<>();
+        LongStream.rangeClosed(1, 1001).forEach(id -> requests.add(transfer(id, 2L)));
+
+        assertThrows(IllegalArgumentException.class, () -> quoteService.quote(requests));
+    }
+
+    @Test
+    public void testCalculate_CommissionScaleSharesCacheEntry() {
+        feeCalculator.calculate(25, 60, new BigDecimal("5.0"));
+        feeCalculator.calculate(25, 60, new BigDecimal("5.00"));
+
+        assertEquals(1.0, feeMisses());
+    }
+
+    private double feeMisses() {
+        return meterRegistry.get("cache.gets").tag("cache", "transfer.fees").tag("result", "miss")
+                .functionCounter().count();
+    }
+
+    private Team team(Long id, long balance, double commission) {
+        Team team = new Team();
+        team.setId(id);
+        team.setAccountBalance(Money.of(BigDecimal.valueOf(balance)));
+        team.setCommissionPercentage(BigDecimal.valueOf(commission));
+        return team;
+    }
+
+    private Player player(Long id, int age, int experienceMonths, Team team) {
+        Player player = new Player();
+        player.setId(id);
+        player.setAge(age);
+        player.setExperienceMonths(experienceMonths);
+        player.setCurrentTeam(team);
+        return player;
+    }
+
+    private TransferRequestDto transfer(Long playerId, Long buyingTeamId) {
+        TransferRequestDto dto = new TransferRequestDto();
+        dto.setPlayerId(playerId);
+        dto.setBuyingTeamId(buyingTeamId);
+        return dto;
+    }
+}
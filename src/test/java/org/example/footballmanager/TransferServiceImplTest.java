@@ -1,19 +1,33 @@
 package org.example.footballmanager;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
+import org.example.footballmanager.config.TransferQuoteProperties;
 import org.example.footballmanager.dto.TransferRequestDto;
+import org.example.footballmanager.dto.TransferResultDto;
+import org.example.footballmanager.dto.TransferStatus;
+import org.example.footballmanager.model.Money;
 import org.example.footballmanager.model.Player;
 import org.example.footballmanager.model.Team;
+import org.example.footballmanager.model.TransferLedgerEntry;
 import org.example.footballmanager.repository.PlayerRepository;
 import org.example.footballmanager.repository.TeamRepository;
+import org.example.footballmanager.repository.TransferLedgerRepository;
+import org.example.footballmanager.service.TeamStatsService;
+import org.example.footballmanager.service.impl.TransferFeeCalculator;
 import org.example.footballmanager.service.impl.TransferServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,12 +41,33 @@ public class TransferServiceImplTest {
     @Mock
     private TeamRepository teamRepository;
 
+    @Mock
+    private TransferLedgerRepository transferLedgerRepository;
+
+    @Spy
+    private TransferFeeCalculator feeCalculator =
+            new TransferFeeCalculator(new TransferQuoteProperties(), new SimpleMeterRegistry());
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache teamCache;
+
+    @Mock
+    private Cache playerCache;
+
+    @Mock
+    private TeamStatsService teamStatsService;
+
     @InjectMocks
     private TransferServiceImpl transferService;
 
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(cacheManager.getCache("teams")).thenReturn(teamCache);
+        when(cacheManager.getCache("players")).thenReturn(playerCache);
     }
 
     @Test
@@ -48,12 +83,12 @@ public class TransferServiceImplTest {
         Team sellingTeam = new Team();
         sellingTeam.setId(sellingTeamId);
         sellingTeam.setCommissionPercentage(BigDecimal.valueOf(5.0));
-        sellingTeam.setAccountBalance(BigDecimal.valueOf(1000000));
+        sellingTeam.setAccountBalance(Money.of(BigDecimal.valueOf(1000000)));
         player.setCurrentTeam(sellingTeam);
 
         Team buyingTeam = new Team();
         buyingTeam.setId(buyingTeamId);
-        buyingTeam.setAccountBalance(BigDecimal.valueOf(2000000));
+        buyingTeam.setAccountBalance(Money.of(BigDecimal.valueOf(2000000)));
 
         when(playerRepository.findById(playerId)).thenReturn(Optional.of(player));
         when(teamRepository.findById(buyingTeamId)).thenReturn(Optional.of(buyingTeam));
@@ -71,13 +106,22 @@ public class TransferServiceImplTest {
         // Total: 240000 + 12000 = 252000
         // Buying team balance: 2000000 - 252000 = 1748000
         // Selling team balance: 1000000 + 252000 = 1252000
-        assertEquals(0, BigDecimal.valueOf(1748000).compareTo(buyingTeam.getAccountBalance()));
-        assertEquals(0, BigDecimal.valueOf(1252000).compareTo(sellingTeam.getAccountBalance()));
+        assertEquals(0, BigDecimal.valueOf(1748000).compareTo(buyingTeam.getAccountBalance().toBigDecimal()));
+        assertEquals(0, BigDecimal.valueOf(1252000).compareTo(sellingTeam.getAccountBalance().toBigDecimal()));
         assertEquals(buyingTeam, player.getCurrentTeam());
 
         verify(teamRepository, times(1)).save(buyingTeam);
         verify(teamRepository, times(1)).save(sellingTeam);
         verify(playerRepository, times(1)).save(player);
+        ArgumentCaptor<TransferLedgerEntry> entry = ArgumentCaptor.forClass(TransferLedgerEntry.class);
+        verify(transferLedgerRepository, times(1)).save(entry.capture());
+        assertEquals(0, BigDecimal.valueOf(240000).compareTo(entry.getValue().getTransferCost().toBigDecimal()));
+        assertEquals(0, BigDecimal.valueOf(12000).compareTo(entry.getValue().getCommission().toBigDecimal()));
+        assertEquals(0, BigDecimal.valueOf(1000000).compareTo(entry.getValue().getSellingBalanceBefore().toBigDecimal()));
+        assertEquals(0, BigDecimal.valueOf(1748000).compareTo(entry.getValue().getBuyingBalanceAfter().toBigDecimal()));
+        verify(teamCache).evict(buyingTeamId);
+        verify(teamCache).evict(sellingTeamId);
+        verify(playerCache).evict(playerId);
     }
 
     @Test
@@ -129,7 +173,7 @@ public class TransferServiceImplTest {
 
         Team buyingTeam = new Team();
         buyingTeam.setId(buyingTeamId);
-        buyingTeam.setAccountBalance(BigDecimal.valueOf(2000000));
+        buyingTeam.setAccountBalance(Money.of(BigDecimal.valueOf(2000000)));
 
         when(playerRepository.findById(playerId)).thenReturn(Optional.of(player));
         when(teamRepository.findById(buyingTeamId)).thenReturn(Optional.of(buyingTeam)); // Додано мок для buyingTeam
@@ -184,7 +228,7 @@ public class TransferServiceImplTest {
 
         Team buyingTeam = new Team();
         buyingTeam.setId(buyingTeamId);
-        buyingTeam.setAccountBalance(BigDecimal.valueOf(200000));
+        buyingTeam.setAccountBalance(Money.of(BigDecimal.valueOf(200000)));
 
         when(playerRepository.findById(playerId)).thenReturn(Optional.of(player));
         when(teamRepository.findById(buyingTeamId)).thenReturn(Optional.of(buyingTeam));
@@ -215,7 +259,7 @@ public class TransferServiceImplTest {
 
         Team buyingTeam = new Team();
         buyingTeam.setId(buyingTeamId);
-        buyingTeam.setAccountBalance(BigDecimal.valueOf(2000000));
+        buyingTeam.setAccountBalance(Money.of(BigDecimal.valueOf(2000000)));
 
         when(playerRepository.findById(playerId)).thenReturn(Optional.of(player));
         when(teamRepository.findById(buyingTeamId)).thenReturn(Optional.of(buyingTeam));
@@ -229,4 +273,96 @@ public class TransferServiceImplTest {
         verify(teamRepository, times(1)).findById(buyingTeamId);
         verifyNoMoreInteractions(teamRepository, playerRepository);
     }
+
+    @Test
+    public void testPerformTransfers_AppliesInOrderAndRejectsInvalidItems() {
+        Team teamA = new Team();
+        teamA.setId(1L);
+        teamA.setCommissionPercentage(BigDecimal.valueOf(5.0));
+        teamA.setAccountBalance(Money.of(BigDecimal.valueOf(1000000)));
+
+        Team teamB = new Team();
+        teamB.setId(2L);
+        teamB.setCommissionPercentage(BigDecimal.valueOf(2.0));
+        teamB.setAccountBalance(Money.of(BigDecimal.valueOf(2000000)));
+
+        Player player = new Player();
+        player.setId(1L);
+        player.setAge(25);
+        player.setExperienceMonths(60);
+        player.setCurrentTeam(teamA);
+
+        when(playerRepository.findByIdIn(anyCollection())).thenReturn(List.of(player));
+        when(teamRepository.findAllById(anyIterable())).thenReturn(List.of(teamB));
+
+        List<TransferResultDto> results = transferService.performTransfers(List.of(
+                transfer(1L, 2L),
+                transfer(1L, 2L),
+                transfer(1L, 1L),
+                transfer(999L, 1L)
+        ));
+
+        assertEquals(4, results.size());
+        assertEquals(TransferStatus.APPLIED, results.get(0).getStatus());
+        assertEquals(TransferStatus.REJECTED, results.get(1).getStatus());
+        assertEquals("Cannot transfer player to the same team", results.get(1).getReason());
+        assertEquals(TransferStatus.APPLIED, results.get(2).getStatus());
+        assertEquals(TransferStatus.REJECTED, results.get(3).getStatus());
+
+        // A -> B: 240000 + 5% = 252000; B -> A: 240000 + 2% = 244800
+        assertEquals(0, BigDecimal.valueOf(1007200).compareTo(teamA.getAccountBalance().toBigDecimal()));
+        assertEquals(0, BigDecimal.valueOf(1992800).compareTo(teamB.getAccountBalance().toBigDecimal()));
+        assertEquals(teamA, player.getCurrentTeam());
+
+        verify(playerRepository, times(1)).findByIdIn(anyCollection());
+        verify(teamRepository, times(1)).findAllById(anyIterable());
+        verify(teamRepository, times(1)).saveAll(anyIterable());
+        verify(playerRepository, times(1)).saveAll(anyIterable());
+        verify(transferLedgerRepository, times(1)).saveAll(argThat(entries -> ((List<?>) entries).size() == 2));
+        verify(playerRepository, never()).findById(any());
+    }
+
+    @Test
+    public void testPerformTransfers_InsufficientFundsRejectsOnlyThatItem() {
+        Team sellingTeam = new Team();
+        sellingTeam.setId(1L);
+        sellingTeam.setCommissionPercentage(BigDecimal.valueOf(5.0));
+        sellingTeam.setAccountBalance(Money.of(BigDecimal.valueOf(1000000)));
+
+        Team buyingTeam = new Team();
+        buyingTeam.setId(2L);
+        buyingTeam.setAccountBalance(Money.of(BigDecimal.valueOf(300000)));
+
+        Player first = new Player();
+        first.setId(1L);
+        first.setAge(25);
+        first.setExperienceMonths(60);
+        first.setCurrentTeam(sellingTeam);
+
+        Player second = new Player();
+        second.setId(2L);
+        second.setAge(20);
+        second.setExperienceMonths(60);
+        second.setCurrentTeam(sellingTeam);
+
+        when(playerRepository.findByIdIn(anyCollection())).thenReturn(List.of(first, second));
+        when(teamRepository.findAllById(anyIterable())).thenReturn(List.of(buyingTeam));
+
+        List<TransferResultDto> results = transferService.performTransfers(List.of(
+                transfer(1L, 2L),
+                transfer(2L, 2L)
+        ));
+
+        assertEquals(TransferStatus.APPLIED, results.get(0).getStatus());
+        assertEquals(TransferStatus.REJECTED, results.get(1).getStatus());
+        assertEquals(0, BigDecimal.valueOf(48000).compareTo(buyingTeam.getAccountBalance().toBigDecimal()));
+        assertEquals(sellingTeam, second.getCurrentTeam());
+    }
+
+    private TransferRequestDto transfer(Long playerId, Long buyingTeamId) {
+        TransferRequestDto dto = new TransferRequestDto();
+        dto.setPlayerId(playerId);
+        dto.setBuyingTeamId(buyingTeamId);
+        return dto;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,161 @@
+package org.example.footballmanager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.footballmanager.config.TransferQuoteProperties;
+import org.example.footballmanager.config.TransferSimulationProperties;
+import org.example.footballmanager.dto.SimulatedTeamDto;
+import org.example.footballmanager.dto.SimulationRejectReason;
+import org.example.footballmanager.dto.TransferRequestDto;
+import org.example.footballmanager.dto.TransferSimulationRequestDto;
+import org.example.footballmanager.dto.TransferSimulationResultDto;
+import org.example.footballmanager.model.Money;
+import org.example.footballmanager.repository.PlayerRepository;
+import org.example.footballmanager.repository.TeamRepository;
+import org.example.footballmanager.repository.projection.PlayerView;
+import org.example.footballmanager.repository.projection.TeamView;
+import org.example.footballmanager.service.impl.TransferFeeCalculator;
+import org.example.footballmanager.service.impl.TransferSimulationServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class TransferSimulationServiceImplTest {
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TransferFeeCalculator feeCalculator;
+
+    private TransferSimulationServiceImpl simulationService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        feeCalculator = new TransferFeeCalculator(new TransferQuoteProperties(), new SimpleMeterRegistry());
+        simulationService = service(4);
+
+        when(teamRepository.findAllViewsOrderById()).thenReturn(List.of(
+                new TeamView(1L, "Team A", Money.of(BigDecimal.valueOf(1000000)), BigDecimal.valueOf(5.0), 0L),
+                new TeamView(2L, "Team B", Money.of(BigDecimal.valueOf(2000000)), BigDecimal.valueOf(2.0), 0L),
+                new TeamView(3L, "Team C", Money.of(BigDecimal.valueOf(100000)), BigDecimal.valueOf(3.0), 0L)));
+        when(playerRepository.findAllViewsOrderById()).thenReturn(List.of(
+                new PlayerView(1L, "Player 1", 25, 60, 1L, 0L),
+                new PlayerView(2L, "Player 2", 20, 12, 2L, 0L),
+                new PlayerView(3L, "Player 3", 30, 100, 3L, 0L),
+                new PlayerView(4L, "Player 4", 22, 40, null, 0L)));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        simulationService.destroy();
+    }
+
+    @Test
+    public void testSimulate_AppliesTheSameFeesAsTransferService() {
+        TransferSimulationResultDto result = simulationService.simulate(request(3, 5, List.of(transfer(1L, 2L))));
+
+        // 60 * 100000 / 25 = 240000, plus 5% commission of the selling team = 252000, once per run
+        assertEquals(3, result.getApplied());
+        assertEquals(12L, result.getRejected().get(SimulationRejectReason.SAME_TEAM));
+        SimulatedTeamDto teamA = result.getTeams().get(0);
+        SimulatedTeamDto teamB = result.getTeams().get(1);
+        assertEquals(0, BigDecimal.valueOf(1252000).compareTo(teamA.getMeanFinalBalance()));
+        assertEquals(0, BigDecimal.valueOf(1748000).compareTo(teamB.getMeanFinalBalance()));
+        assertEquals(0, BigDecimal.valueOf(2000000).compareTo(teamB.getInitialBalance()));
+        verify(teamRepository, never()).save(any());
+        verify(playerRepository, never()).save(any());
+    }
+
+    @Test
+    public void testSimulate_CountsRejectedTransfersByReason() {
+        TransferSimulationResultDto result = simulationService.simulate(request(1, 50,
+                List.of(transfer(4L, 1L), transfer(9L, 1L), transfer(1L, 9L), transfer(3L, 3L))));
+
+        assertEquals(0, result.getApplied());
+        long rejected = result.getRejected().values().stream().mapToLong(Long::longValue).sum();
+        assertEquals(50, rejected);
+        assertTrue(result.getRejected().get(SimulationRejectReason.NO_CURRENT_TEAM) > 0);
+        assertTrue(result.getRejected().get(SimulationRejectReason.PLAYER_NOT_FOUND) > 0);
+        assertTrue(result.getRejected().get(SimulationRejectReason.TEAM_NOT_FOUND) > 0);
+        assertTrue(result.getRejected().get(SimulationRejectReason.SAME_TEAM) > 0);
+
+        TransferSimulationResultDto poorBuyer = simulationService.simulate(request(1, 1, List.of(transfer(1L, 3L))));
+
+        assertEquals(1L, poorBuyer.getRejected().get(SimulationRejectReason.INSUFFICIENT_FUNDS));
+    }
+
+    @Test
+    public void testSimulate_SameSeedGivesSameResultForAnyParallelism() {
+        TransferSimulationRequestDto request = request(64, 200, null);
+        request.setSeed(42L);
+
+        TransferSimulationResultDto parallel = simulationService.simulate(request);
+        TransferSimulationServiceImpl sequentialService = service(1);
+        TransferSimulationResultDto sequential;
+        try {
+            sequential = sequentialService.simulate(request);
+        } finally {
+            sequentialService.destroy();
+        }
+
+        assertEquals(parallel.getApplied(), sequential.getApplied());
+        assertEquals(parallel.getRejected(), sequential.getRejected());
+        for (int i = 0; i < parallel.getTeams().size(); i++) {
+            assertEquals(parallel.getTeams().get(i).getMeanFinalBalance(), sequential.getTeams().get(i).getMeanFinalBalance());
+            assertEquals(parallel.getTeams().get(i).getMinFinalBalance(), sequential.getTeams().get(i).getMinFinalBalance());
+        }
+        BigDecimal initialTotal = parallel.getTeams().stream()
+                .map(SimulatedTeamDto::getInitialBalance)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal meanTotal = parallel.getTeams().stream()
+                .map(SimulatedTeamDto::getMeanFinalBalance)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        // transfers only move money between teams
+        assertEquals(0, initialTotal.compareTo(meanTotal.setScale(0, RoundingMode.HALF_UP)));
+    }
+
+    @Test
+    public void testSimulate_RejectsRunsAboveTheLimit() {
+        assertThrows(IllegalArgumentException.class, () -> simulationService.simulate(request(5000, 10, null)));
+        verify(teamRepository, never()).findAllViewsOrderById();
+    }
+
+    private TransferSimulationServiceImpl service(int parallelism) {
+        TransferSimulationProperties properties = new TransferSimulationProperties();
+        properties.setParallelism(parallelism);
+        return new TransferSimulationServiceImpl(teamRepository, playerRepository, feeCalculator,
+                transactionManager, properties);
+    }
+
+    private TransferSimulationRequestDto request(int runs, int transfersPerRun, List<TransferRequestDto> candidates) {
+        TransferSimulationRequestDto request = new TransferSimulationRequestDto();
+        request.setRuns(runs);
+        request.setTransfersPerRun(transfersPerRun);
+        request.setSeed(7L);
+        request.setCandidates(candidates);
+        return request;
+    }
+
+    private TransferRequestDto transfer(Long playerId, Long buyingTeamId) {
+        TransferRequestDto dto = new TransferRequestDto();
+        dto.setPlayerId(playerId);
+        dto.setBuyingTeamId(buyingTeamId);
+        return dto;
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.footballmanager;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.example.footballmanager.config.WireFormatConfig;
+import org.example.footballmanager.controller.NdjsonWriter;
+import org.example.footballmanager.controller.TeamController;
+import org.example.footballmanager.dto.team.TeamDto;
+import org.example.footballmanager.service.PlayerService;
+import org.example.footballmanager.service.TeamBalanceService;
+import org.example.footballmanager.service.TeamService;
+import org.example.footballmanager.service.TeamStatsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class WireFormatTest {
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setUp() {
+        TeamService teamService = mock(TeamService.class);
+        List<TeamDto> teams = new ArrayList<>();
+        for (long id = 1; id <= 50; id++) {
+            TeamDto team = new TeamDto();
+            team.setId(id);
+            team.setName("Team " + id);
+            team.setAccountBalance(BigDecimal.valueOf(1000000 + id, 2));
+            team.setCommissionPercentage(new BigDecimal("5.00"));
+            team.setVersion(0L);
+            teams.add(team);
+        }
+        when(teamService.getAllTeams(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(teams, PageRequest.of(0, 50), 200));
+
+        WireFormatConfig config = new WireFormatConfig();
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                        new TeamController(teamService, mock(PlayerService.class), mock(TeamBalanceService.class),
+                                mock(TeamStatsService.class), mock(NdjsonWriter.class)))
+                .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+                .setMessageConverters(
+                        new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build()),
+                        config.smileHttpMessageConverter(Jackson2ObjectMapperBuilder.json()),
+                        config.cborHttpMessageConverter(Jackson2ObjectMapperBuilder.json()))
+                .build();
+    }
+
+    @Test
+    public void testGetTeams_JsonStaysTheDefault() throws Exception {
+        mockMvc.perform(get("/teams").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content[0].name").value("Team 1"));
+    }
+
+    @Test
+    public void testGetTeams_BinaryFormatsCarryTheSamePageAndAreSmaller() throws Exception {
+        byte[] json = body(MediaType.APPLICATION_JSON);
+        byte[] cbor = body(MediaType.parseMediaType("application/cbor"));
+        byte[] smile = body(SMILE);
+
+        JsonNode expected = new ObjectMapper()
+                .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                .readTree(json);
+        assertEquals(expected, new CBORMapper().readTree(cbor));
+        assertEquals(expected, new SmileMapper().readTree(smile));
+        assertEquals(200, expected.get("totalElements").asInt());
+        assertTrue(cbor.length < json.length);
+        assertTrue(smile.length < json.length);
+    }
+
+    private byte[] body(MediaType mediaType) throws Exception {
+        return mockMvc.perform(get("/teams").accept(mediaType))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+}